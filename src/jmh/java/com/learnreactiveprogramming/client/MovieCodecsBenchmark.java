@@ -0,0 +1,104 @@
+package com.learnreactiveprogramming.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.learnreactiveprogramming.domain.MovieInfo;
+import com.learnreactiveprogramming.domain.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decode throughput and allocation through the {@code WebClient} decode path: Spring's stock
+ * {@link Jackson2JsonDecoder}, which resolves a reader per response, against {@link MovieCodecs#decoder()} with and
+ * without Blackbird, for a single value ({@code bodyToMono}) and a 100-element NDJSON stream ({@code bodyToFlux}).
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MovieCodecsBenchmark {
+
+    private static final String MOVIE_INFO_JSON = "{\"movieInfoId\":1,\"name\":\"Batman Begins\",\"year\":2005,"
+            + "\"cast\":[\"Christian Bale\",\"Michael Cane\"],\"releaseDate\":\"2005-06-15\"}";
+    private static final String REVIEW_JSON = "{\"reviewId\":1,\"movieInfoId\":1,\"comment\":\"Awesome Movie\",\"rating\":8.9}";
+    private static final byte[] MOVIE_INFO_BYTES = MOVIE_INFO_JSON.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REVIEWS_NDJSON_BYTES = (REVIEW_JSON + "\n").repeat(100).getBytes(StandardCharsets.UTF_8);
+    private static final ResolvableType MOVIE_INFO_TYPE = ResolvableType.forClass(MovieInfo.class);
+    private static final ResolvableType REVIEW_TYPE = ResolvableType.forClass(Review.class);
+
+    private Jackson2JsonDecoder stockDecoder;
+    private Jackson2JsonDecoder movieCodecsDecoder;
+    private Jackson2JsonDecoder blackbirdDecoder;
+
+    @Setup
+    public void setup() {
+        stockDecoder = new Jackson2JsonDecoder(new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        movieCodecsDecoder = MovieCodecs.create().decoder();
+        blackbirdDecoder = MovieCodecs.withBytecodeAcceleration().decoder();
+    }
+
+    @Benchmark
+    public Object movieInfoStock() {
+        return decodeMovieInfo(stockDecoder);
+    }
+
+    @Benchmark
+    public Object movieInfoMovieCodecs() {
+        return decodeMovieInfo(movieCodecsDecoder);
+    }
+
+    @Benchmark
+    public Object movieInfoBlackbird() {
+        return decodeMovieInfo(blackbirdDecoder);
+    }
+
+    @Benchmark
+    public List<Object> reviewsStock() {
+        return decodeReviews(stockDecoder);
+    }
+
+    @Benchmark
+    public List<Object> reviewsMovieCodecs() {
+        return decodeReviews(movieCodecsDecoder);
+    }
+
+    @Benchmark
+    public List<Object> reviewsBlackbird() {
+        return decodeReviews(blackbirdDecoder);
+    }
+
+    private static Object decodeMovieInfo(Jackson2JsonDecoder decoder) {
+        var buffer = DefaultDataBufferFactory.sharedInstance.wrap(MOVIE_INFO_BYTES);
+        return decoder.decode(buffer, MOVIE_INFO_TYPE, MediaType.APPLICATION_JSON, null);
+    }
+
+    private static List<Object> decodeReviews(Jackson2JsonDecoder decoder) {
+        var buffer = DefaultDataBufferFactory.sharedInstance.wrap(REVIEWS_NDJSON_BYTES);
+        return decoder.decode(Flux.just(buffer), REVIEW_TYPE, MediaType.APPLICATION_NDJSON, null)
+                .collectList()
+                .block();
+    }
+}
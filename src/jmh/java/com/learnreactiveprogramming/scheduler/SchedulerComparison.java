@@ -0,0 +1,49 @@
+package com.learnreactiveprogramming.scheduler;
+
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import com.learnreactiveprogramming.service.MovieInfoService;
+import com.learnreactiveprogramming.service.MovieReactiveService;
+import com.learnreactiveprogramming.service.RevenueService;
+import com.learnreactiveprogramming.service.ReviewService;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Fires N concurrent {@code getMovieByIdWithRevenue} calls (10k by default) with the blocking revenue lookup on
+ * each scheduler and logs the throughput. Run with {@code ./gradlew schedulerComparison} on a Java 21 runtime to
+ * include virtual threads.
+ */
+@Slf4j
+public class SchedulerComparison {
+
+    public static void main(String[] args) {
+        var calls = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        SchedulerInstrumentation.install();
+
+        run("boundedElastic", Schedulers.boundedElastic(), calls);
+
+        if (BlockingSchedulers.isVirtualThreadsAvailable()) {
+            run("virtual", BlockingSchedulers.virtualThreads(), calls);
+        } else {
+            log.warn("Skipping virtual threads, Java {} does not support them", System.getProperty("java.version"));
+        }
+        MetricsRegistry.INSTANCE.dump();
+    }
+
+    private static void run(String name, Scheduler scheduler, int calls) {
+        var movieReactiveService = new MovieReactiveService(new MovieInfoService(), new ReviewService(),
+                new RevenueService(scheduler));
+
+        var start = System.nanoTime();
+        var count = Flux.range(0, calls)
+                .flatMap(movieId -> movieReactiveService.getMovieByIdWithRevenue(movieId), calls)
+                .count()
+                .block();
+        var elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        log.info("{}: {} calls in {} ms, {} calls/s", name, count, elapsedMillis,
+                String.format("%.1f", count * 1000.0 / elapsedMillis));
+    }
+}
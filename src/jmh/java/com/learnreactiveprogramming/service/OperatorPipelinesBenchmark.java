@@ -0,0 +1,153 @@
+package com.learnreactiveprogramming.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * The operator chains used in {@link FluxAndMonoGeneratorService}, run over {@code elements} names so the
+ * per-element cost shows. Run with {@code ./gradlew jmh -PjmhInclude=OperatorPipelines}; the task adds
+ * {@code -prof gc} and writes the results as JSON to {@code build/reports/jmh/results.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OperatorPipelinesBenchmark {
+
+    private static final List<String> NAMES = List.of("alex", "ben", "chloe");
+
+    @Param({"10", "1000", "100000"})
+    private int elements;
+
+    private FluxAndMonoGeneratorService service;
+    private Flux<String> names;
+    private Flux<String> otherNames;
+
+    @Setup
+    public void setup() {
+        service = new FluxAndMonoGeneratorService();
+        names = Flux.range(0, elements).map(i -> NAMES.get(i % NAMES.size()));
+        otherNames = Flux.range(0, elements).map(i -> NAMES.get((i + 1) % NAMES.size()));
+    }
+
+    @Benchmark
+    public void flatMap(Blackhole blackhole) {
+        names.map(String::toUpperCase)
+                .flatMap(service::splitString)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void concatMap(Blackhole blackhole) {
+        names.map(String::toUpperCase)
+                .concatMap(service::splitString)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void flatMapSequential(Blackhole blackhole) {
+        names.map(String::toUpperCase)
+                .flatMapSequential(service::splitString)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void transform(Blackhole blackhole) {
+        UnaryOperator<Flux<String>> filterMap = name -> name
+                .map(String::toUpperCase)
+                .filter(s -> s.length() > 3);
+        names.transform(filterMap)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void inline(Blackhole blackhole) {
+        names.map(String::toUpperCase)
+                .filter(s -> s.length() > 3)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void mergeWith(Blackhole blackhole) {
+        names.mergeWith(otherNames)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void mergeSequential(Blackhole blackhole) {
+        Flux.mergeSequential(names, otherNames)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void zip(Blackhole blackhole) {
+        Flux.zip(names, otherNames, (first, second) -> first + second)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void zipWith(Blackhole blackhole) {
+        names.zipWith(otherNames, (first, second) -> first + second)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void generate(Blackhole blackhole) {
+        Flux.<Integer, Integer>generate(() -> 1, (state, sink) -> {
+                    sink.next(state * 2);
+                    if (state == elements) {
+                        sink.complete();
+                    }
+                    return state + 1;
+                })
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void create(Blackhole blackhole) {
+        Flux.<Integer>create(sink -> {
+                    for (var i = 1; i <= elements; i++) {
+                        sink.next(i * 2);
+                    }
+                    sink.complete();
+                })
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void serviceNamesFluxFlatMap(Blackhole blackhole) {
+        service.namesFluxFlatMap(3).subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void serviceNamesFluxTransform(Blackhole blackhole) {
+        service.namesFluxTransform(3).subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void serviceExploreZip(Blackhole blackhole) {
+        service.exploreZip().subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void serviceExploreGenerate(Blackhole blackhole) {
+        service.exploreGenerate().subscribe(blackhole::consume);
+    }
+}
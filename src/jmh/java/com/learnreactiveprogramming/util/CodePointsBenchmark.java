@@ -0,0 +1,46 @@
+package com.learnreactiveprogramming.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code split("")} against {@link CodePoints} for the names used by the {@code namesFluxFlatMap*} pipelines;
+ * compare {@code gc.alloc.rate.norm} in the {@code -prof gc} output for the allocation per split.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodePointsBenchmark {
+
+    @Param({"ALEX", "CHLOE", "CHRISTOPHER NOLAN"})
+    private String name;
+
+    @Benchmark
+    public void splitRegex(Blackhole blackhole) {
+        Flux.fromArray(name.split(""))
+                .map(String::toLowerCase)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void codePoints(Blackhole blackhole) {
+        CodePoints.flux(name)
+                .map(String::toLowerCase)
+                .subscribe(blackhole::consume);
+    }
+}
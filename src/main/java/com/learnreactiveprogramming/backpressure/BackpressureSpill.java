@@ -0,0 +1,109 @@
+package com.learnreactiveprogramming.backpressure;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * {@code onBackpressureSpill}: requests the source unbounded and queues whatever the subscriber has not asked for
+ * yet in a {@link SpillQueue}, so a bursty producer runs at full speed while a slow consumer reads at its own pace,
+ * without dropping elements or holding them all on the heap, e.g.
+ * {@code movies.transform(BackpressureSpill.onBackpressureSpill(Movie.class, SpillConfig.ofDefaults()))}.
+ * An upstream error is delivered after the queued elements.
+ */
+@Slf4j
+public final class BackpressureSpill {
+
+    private BackpressureSpill() {
+    }
+
+    public static <T> Function<Flux<T>, Flux<T>> onBackpressureSpill(Class<T> type, SpillConfig config) {
+        return source -> Flux.create(sink -> new SpillDrain<>(sink, new SpillQueue<>(type, config)).subscribeTo(source),
+                FluxSink.OverflowStrategy.IGNORE);
+    }
+
+    private static final class SpillDrain<T> {
+        private final FluxSink<T> sink;
+        private final SpillQueue<T> queue;
+        private final Disposable.Swap upstream = Disposables.swap();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean done;
+        private volatile Throwable error;
+
+        private SpillDrain(FluxSink<T> sink, SpillQueue<T> queue) {
+            this.sink = sink;
+            this.queue = queue;
+        }
+
+        private void subscribeTo(Flux<T> source) {
+            sink.onRequest(requested -> drain());
+            sink.onDispose(() -> {
+                upstream.dispose();
+                if (queue.getSpilledTotal() > 0) {
+                    log.debug("Spilled {} elements to disk", queue.getSpilledTotal());
+                }
+                queue.close();
+            });
+            upstream.update(source.subscribe(this::onNext, this::onError, this::onComplete));
+        }
+
+        private void onNext(T element) {
+            try {
+                queue.offer(element);
+            } catch (Exception ex) {
+                upstream.dispose();
+                onError(ex);
+                return;
+            }
+            drain();
+        }
+
+        private void onError(Throwable throwable) {
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        private void onComplete() {
+            done = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            var missed = 1;
+            do {
+                try {
+                    while (sink.requestedFromDownstream() > 0 && !sink.isCancelled()) {
+                        var element = queue.poll();
+                        if (element == null) {
+                            break;
+                        }
+                        sink.next(element);
+                    }
+                } catch (Exception ex) {
+                    upstream.dispose();
+                    sink.error(ex);
+                    return;
+                }
+                if (done && queue.isEmpty()) {
+                    var failure = error;
+                    if (failure != null) {
+                        sink.error(failure);
+                    } else {
+                        sink.complete();
+                    }
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.learnreactiveprogramming.backpressure;
+
+import com.learnreactiveprogramming.client.MovieCodecs;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+@Getter
+@Builder
+public class SpillConfig {
+
+    /**
+     * Where the segment files go; a local disk, since every spilled element is written and read through a mapping.
+     */
+    @Builder.Default
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"));
+    @Builder.Default
+    private int memoryCapacity = 256;
+    @Builder.Default
+    private int segmentSize = 16 * 1024 * 1024;
+    @Builder.Default
+    private MovieCodecs codecs = MovieCodecs.create();
+
+    public static SpillConfig ofDefaults() {
+        return SpillConfig.builder().build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.learnreactiveprogramming.backpressure;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * FIFO queue that keeps up to {@code memoryCapacity} elements on the heap and appends the rest, serialized, to
+ * spill segments. Once anything is on disk new elements go to disk too, so order is kept; consumed segments are
+ * deleted as the reader moves past them.
+ */
+final class SpillQueue<T> {
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final Path directory;
+    private final int memoryCapacity;
+    private final int segmentSize;
+    private final ArrayDeque<T> memory;
+    private final Deque<SpillSegment> segments = new ArrayDeque<>();
+    private long spilled;
+    private long spilledTotal;
+    private boolean closed;
+
+    SpillQueue(Class<T> type, SpillConfig config) {
+        this.reader = config.getCodecs().readerFor(type);
+        this.writer = config.getCodecs().writerFor(type);
+        this.directory = config.getDirectory();
+        this.memoryCapacity = config.getMemoryCapacity();
+        this.segmentSize = config.getSegmentSize();
+        this.memory = new ArrayDeque<>(memoryCapacity);
+    }
+
+    synchronized void offer(T element) throws IOException {
+        if (closed) {
+            return;
+        }
+        if (spilled == 0 && memory.size() < memoryCapacity) {
+            memory.offer(element);
+            return;
+        }
+        var record = writer.writeValueAsBytes(element);
+        var segment = segments.peekLast();
+        if (segment == null || !segment.hasRoomFor(record.length)) {
+            segment = SpillSegment.create(directory, Math.max(segmentSize, Integer.BYTES + record.length));
+            segments.offerLast(segment);
+        }
+        segment.append(record);
+        spilled++;
+        spilledTotal++;
+    }
+
+    synchronized T poll() throws IOException {
+        var element = memory.poll();
+        if (element != null || spilled == 0 || closed) {
+            return element;
+        }
+        var segment = segments.peekFirst();
+        while (!segment.hasUnread()) {
+            segments.pollFirst().delete();
+            segment = segments.peekFirst();
+        }
+        T value = reader.readValue(segment.read());
+        spilled--;
+        if (!segment.hasUnread()) {
+            if (segments.size() == 1) {
+                segment.rewind();
+            } else {
+                segments.pollFirst().delete();
+            }
+        }
+        return value;
+    }
+
+    synchronized boolean isEmpty() {
+        return memory.isEmpty() && spilled == 0;
+    }
+
+    synchronized long getSpilledTotal() {
+        return spilledTotal;
+    }
+
+    synchronized void close() {
+        closed = true;
+        memory.clear();
+        segments.forEach(SpillSegment::delete);
+        segments.clear();
+        spilled = 0;
+    }
+}
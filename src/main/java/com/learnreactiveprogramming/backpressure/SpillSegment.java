@@ -0,0 +1,75 @@
+package com.learnreactiveprogramming.backpressure;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One memory-mapped, append-only spill file holding length-prefixed records. Java 17 cannot unmap a buffer
+ * explicitly, so a deleted segment's pages are released when the mapping is garbage collected.
+ */
+@Slf4j
+final class SpillSegment {
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    private int readPosition;
+
+    private SpillSegment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static SpillSegment create(Path directory, int size) throws IOException {
+        var path = Files.createTempFile(directory, "spill-", ".seg");
+        var channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new SpillSegment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    boolean hasRoomFor(int length) {
+        return buffer.capacity() - writePosition >= Integer.BYTES + length;
+    }
+
+    void append(byte[] record) {
+        buffer.putInt(writePosition, record.length);
+        buffer.put(writePosition + Integer.BYTES, record);
+        writePosition += Integer.BYTES + record.length;
+    }
+
+    boolean hasUnread() {
+        return readPosition < writePosition;
+    }
+
+    byte[] read() {
+        var length = buffer.getInt(readPosition);
+        var record = new byte[length];
+        buffer.get(readPosition + Integer.BYTES, record);
+        readPosition += Integer.BYTES + length;
+        return record;
+    }
+
+    /**
+     * Reuses a fully consumed segment from the start instead of creating a new file.
+     */
+    void rewind() {
+        readPosition = 0;
+        writePosition = 0;
+    }
+
+    void delete() {
+        try {
+            channel.close();
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("Could not delete spill segment {}", path, ex);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.learnreactiveprogramming.cache;
+
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import com.learnreactiveprogramming.resilience.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Size-bounded LRU cache for reactive lookups. Entries are fresh for {@code timeToLive}; during the following
+ * {@code staleWhileRevalidate} window the stale value is served while a single refresh runs in the background.
+ */
+@Slf4j
+public class ReactiveCache<K, V> {
+
+    private final String name;
+    private final long timeToLiveNanos;
+    private final long staleWhileRevalidateNanos;
+    private final Map<K, Entry<V>> entries;
+    private final SingleFlight<K, V> loads = new SingleFlight<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ReactiveCache(String name, int maximumSize, Duration timeToLive, Duration staleWhileRevalidate) {
+        this.name = name;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.staleWhileRevalidateNanos = staleWhileRevalidate.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        MetricsRegistry.INSTANCE.gauge("cache." + name + ".size", this, ReactiveCache::size);
+        MetricsRegistry.INSTANCE.gauge("cache." + name + ".hits", this, ReactiveCache::getHitCount);
+        MetricsRegistry.INSTANCE.gauge("cache." + name + ".staleHits", this, ReactiveCache::getStaleHitCount);
+        MetricsRegistry.INSTANCE.gauge("cache." + name + ".misses", this, ReactiveCache::getMissCount);
+        MetricsRegistry.INSTANCE.gauge("cache." + name + ".evictions", this, ReactiveCache::getEvictionCount);
+    }
+
+    public Mono<V> get(K key, Function<K, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            var entry = lookup(key);
+            if (entry != null) {
+                var age = System.nanoTime() - entry.loadedAt();
+                if (age <= timeToLiveNanos) {
+                    hits.increment();
+                    return Mono.just(entry.value());
+                }
+                if (age <= timeToLiveNanos + staleWhileRevalidateNanos) {
+                    staleHits.increment();
+                    refresh(key, loader);
+                    return Mono.just(entry.value());
+                }
+            }
+            misses.increment();
+            return load(key, loader);
+        });
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Mono<V> load(K key, Function<K, Mono<V>> loader) {
+        return loads.execute(key, () -> loader.apply(key).doOnNext(value -> put(key, value)));
+    }
+
+    private void refresh(K key, Function<K, Mono<V>> loader) {
+        load(key, loader).subscribe(
+                value -> log.debug("Refreshed {} in cache {}", key, name),
+                ex -> log.warn("Refresh of {} in cache {} failed", key, name, ex));
+    }
+
+    private Entry<V> lookup(K key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime()));
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
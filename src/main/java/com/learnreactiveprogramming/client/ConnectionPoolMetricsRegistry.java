@@ -0,0 +1,55 @@
+package com.learnreactiveprogramming.client;
+
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the live {@link ConnectionPoolMetrics} of every pool created by {@link WebClientFactory}, one entry per
+ * pool and remote address, without requiring Micrometer.
+ */
+public final class ConnectionPoolMetricsRegistry implements ConnectionProvider.MeterRegistrar {
+
+    public static final ConnectionPoolMetricsRegistry INSTANCE = new ConnectionPoolMetricsRegistry();
+
+    public record PoolStats(String poolName, String remoteAddress, int acquired, int allocated, int idle,
+                            int pendingAcquire, int maxAllocated, int maxPendingAcquire) {
+    }
+
+    private final Map<String, Registration> pools = new ConcurrentHashMap<>();
+
+    private ConnectionPoolMetricsRegistry() {
+    }
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(key(poolName, id, remoteAddress), new Registration(poolName, String.valueOf(remoteAddress), metrics));
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(key(poolName, id, remoteAddress));
+    }
+
+    public List<PoolStats> snapshot() {
+        return pools.values().stream()
+                .map(registration -> {
+                    var metrics = registration.metrics();
+                    return new PoolStats(registration.poolName(), registration.remoteAddress(),
+                            metrics.acquiredSize(), metrics.allocatedSize(), metrics.idleSize(),
+                            metrics.pendingAcquireSize(), metrics.maxAllocatedSize(), metrics.maxPendingAcquireSize());
+                })
+                .toList();
+    }
+
+    private static String key(String poolName, String id, SocketAddress remoteAddress) {
+        return poolName + "|" + id + "|" + remoteAddress;
+    }
+
+    private record Registration(String poolName, String remoteAddress, ConnectionPoolMetrics metrics) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.learnreactiveprogramming.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Parses {@code yyyy-MM-dd} strings digit by digit instead of going through {@code DateTimeFormatter}; anything
+ * else falls back to {@link LocalDate#parse(CharSequence)}.
+ */
+public class IsoLocalDateDeserializer extends StdScalarDeserializer<LocalDate> {
+
+    public IsoLocalDateDeserializer() {
+        super(LocalDate.class);
+    }
+
+    @Override
+    public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+            return (LocalDate) context.handleUnexpectedToken(LocalDate.class, parser);
+        }
+        var text = parser.getText();
+        try {
+            if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+                var year = digits(text, 0, 4);
+                var month = digits(text, 5, 7);
+                var day = digits(text, 8, 10);
+                if (year >= 0 && month >= 0 && day >= 0) {
+                    return LocalDate.of(year, month, day);
+                }
+            }
+            return LocalDate.parse(text);
+        } catch (DateTimeException ex) {
+            throw context.weirdStringException(text, LocalDate.class, ex.getMessage());
+        }
+    }
+
+    private static int digits(String text, int from, int to) {
+        var value = 0;
+        for (var i = from; i < to; i++) {
+            var c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,152 @@
+package com.learnreactiveprogramming.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.learnreactiveprogramming.domain.Movie;
+import com.learnreactiveprogramming.domain.MovieInfo;
+import com.learnreactiveprogramming.domain.Revenue;
+import com.learnreactiveprogramming.domain.Review;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.ClientCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2CodecSupport;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson setup for the domain classes. The {@link ObjectMapper} is configured once with a hand-rolled
+ * {@link LocalDate} deserializer and, optionally, the Blackbird module, and the readers and writers of the domain
+ * classes are resolved up front so no response pays for the deserializer lookup. {@link #decoder()} is the
+ * {@code WebClient} decoder that reads the domain classes with those readers.
+ */
+public final class MovieCodecs {
+
+    private static final List<Class<?>> DOMAIN_TYPES = List.of(Movie.class, MovieInfo.class, Review.class, Revenue.class);
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers;
+    private final Map<Class<?>, ObjectWriter> writers;
+    private final Jackson2JsonDecoder decoder;
+
+    private MovieCodecs(boolean bytecodeAcceleration) {
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new SimpleModule("movie-codecs")
+                        .addDeserializer(LocalDate.class, new IsoLocalDateDeserializer())
+                        .addSerializer(LocalDate.class, ToStringSerializer.instance))
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (bytecodeAcceleration) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        this.readers = DOMAIN_TYPES.stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), objectMapper::readerFor));
+        this.writers = DOMAIN_TYPES.stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), objectMapper::writerFor));
+        this.decoder = new CachedReaderDecoder(objectMapper, readers);
+    }
+
+    public static MovieCodecs create() {
+        return new MovieCodecs(false);
+    }
+
+    public static MovieCodecs withBytecodeAcceleration() {
+        return new MovieCodecs(true);
+    }
+
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    public Jackson2JsonDecoder decoder() {
+        return decoder;
+    }
+
+    public ObjectReader readerFor(Class<?> type) {
+        var reader = readers.get(type);
+        return reader != null ? reader : objectMapper.readerFor(type);
+    }
+
+    public ObjectWriter writerFor(Class<?> type) {
+        var writer = writers.get(type);
+        return writer != null ? writer : objectMapper.writerFor(type);
+    }
+
+    /**
+     * Replaces the default Jackson codecs of a {@code WebClient}, e.g. {@code WebClient.builder().codecs(codecs::register)}.
+     */
+    public void register(ClientCodecConfigurer codecs) {
+        codecs.defaultCodecs().jackson2JsonDecoder(decoder);
+        codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+    }
+
+    /**
+     * Reads the domain classes with the pre-resolved readers. A single JSON value ({@code bodyToMono}) is read
+     * straight from the buffer without resolving a reader at all; streamed arrays and NDJSON ({@code bodyToFlux})
+     * go through Spring's tokenizer and every element is read with the cached reader. Other types, JSON views and
+     * non-UTF-8 bodies take the stock path.
+     */
+    private static final class CachedReaderDecoder extends Jackson2JsonDecoder {
+
+        private final Map<Class<?>, ObjectReader> readers;
+
+        private CachedReaderDecoder(ObjectMapper objectMapper, Map<Class<?>, ObjectReader> readers) {
+            super(objectMapper);
+            this.readers = readers;
+        }
+
+        @Override
+        @Nullable
+        public Object decode(DataBuffer dataBuffer, ResolvableType targetType, @Nullable MimeType mimeType,
+                             @Nullable Map<String, Object> hints) throws DecodingException {
+            var reader = cachedReader(targetType, hints);
+            if (reader == null || !isUtf8(mimeType)) {
+                return super.decode(dataBuffer, targetType, mimeType, hints);
+            }
+            try {
+                return reader.readValue(dataBuffer.asInputStream());
+            } catch (IOException ex) {
+                throw new DecodingException("JSON decoding error: " + ex.getMessage(), ex);
+            } finally {
+                DataBufferUtils.release(dataBuffer);
+            }
+        }
+
+        @Override
+        protected ObjectReader customizeReader(ObjectReader reader, ResolvableType elementType,
+                                               @Nullable Map<String, Object> hints) {
+            var cached = cachedReader(elementType, hints);
+            return cached != null ? cached : reader;
+        }
+
+        @Nullable
+        private ObjectReader cachedReader(ResolvableType type, @Nullable Map<String, Object> hints) {
+            if (hints != null && hints.containsKey(Jackson2CodecSupport.JSON_VIEW_HINT)) {
+                return null;
+            }
+            return readers.get(type.toClass());
+        }
+
+        private boolean isUtf8(@Nullable MimeType mimeType) {
+            return mimeType == null || mimeType.getCharset() == null
+                    || StandardCharsets.UTF_8.equals(mimeType.getCharset());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.learnreactiveprogramming.client;
+
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * A {@link WebClient} together with the connection pool it owns. Disposing it closes the pooled connections,
+ * stops the background eviction and removes the pool from {@link ConnectionPoolMetricsRegistry}.
+ */
+public record PooledWebClient(WebClient webClient, ConnectionProvider connectionProvider)
+        implements Disposable, AutoCloseable {
+
+    @Override
+    public void dispose() {
+        connectionProvider.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return connectionProvider.isDisposed();
+    }
+
+    @Override
+    public void close() {
+        dispose();
+    }
+}
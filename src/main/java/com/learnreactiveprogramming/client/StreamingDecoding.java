@@ -0,0 +1,27 @@
+package com.learnreactiveprogramming.client;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ClientCodecConfigurer;
+
+import java.util.function.Consumer;
+
+/**
+ * Settings for decoding collection endpoints as a stream. Both {@code application/x-ndjson} and JSON arrays are
+ * tokenized incrementally by the Jackson decoder, so each element is emitted as soon as its bytes arrive; the
+ * max in-memory size bounds the buffer held for a single element and the prefetch bounds how far decoding runs
+ * ahead of downstream demand.
+ */
+public final class StreamingDecoding {
+
+    public static final int DEFAULT_MAX_IN_MEMORY_SIZE = 256 * 1024;
+    public static final int DEFAULT_PREFETCH = 32;
+
+    public static final MediaType[] STREAMING_MEDIA_TYPES = {MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON};
+
+    private StreamingDecoding() {
+    }
+
+    public static Consumer<ClientCodecConfigurer> maxInMemorySize(int maxInMemorySize) {
+        return codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySize);
+    }
+}
@@ -0,0 +1,32 @@
+package com.learnreactiveprogramming.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+public class WebClientConfig {
+    private String baseUrl;
+    @Builder.Default
+    private String poolName = "movies";
+    @Builder.Default
+    private int maxConnections = 200;
+    @Builder.Default
+    private int pendingAcquireMaxCount = 1000;
+    @Builder.Default
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    @Builder.Default
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    @Builder.Default
+    private Duration evictInBackground = Duration.ofSeconds(30);
+    @Builder.Default
+    private Duration responseTimeout = Duration.ofSeconds(10);
+    @Builder.Default
+    private boolean http2 = false;
+    @Builder.Default
+    private boolean compression = true;
+    @Builder.Default
+    private int maxInMemorySize = StreamingDecoding.DEFAULT_MAX_IN_MEMORY_SIZE;
+}
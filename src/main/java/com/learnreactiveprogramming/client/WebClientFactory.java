@@ -0,0 +1,54 @@
+package com.learnreactiveprogramming.client;
+
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Builds the {@link WebClient} used by {@code MovieInfoService} and {@code ReviewService}: an explicitly sized
+ * connection pool with bounded pending acquires and idle eviction, keep-alive, response compression, optional
+ * HTTP/2 cleartext multiplexing and the {@link MovieCodecs} Jackson codecs. Pool metrics are published to
+ * {@link ConnectionPoolMetricsRegistry}. Every call creates its own pool, so the caller disposes the returned
+ * {@link PooledWebClient} once it is done with it, and live pools need distinct pool names.
+ */
+public final class WebClientFactory {
+
+    private WebClientFactory() {
+    }
+
+    public static PooledWebClient create(String baseUrl) {
+        return create(WebClientConfig.builder().baseUrl(baseUrl).build());
+    }
+
+    public static PooledWebClient create(WebClientConfig config) {
+        var connectionProvider = ConnectionProvider.builder(config.getPoolName())
+                .maxConnections(config.getMaxConnections())
+                .pendingAcquireMaxCount(config.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(config.getPendingAcquireTimeout())
+                .maxIdleTime(config.getMaxIdleTime())
+                .evictInBackground(config.getEvictInBackground())
+                .metrics(true, () -> ConnectionPoolMetricsRegistry.INSTANCE)
+                .build();
+
+        var httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .compress(config.isCompression())
+                .responseTimeout(config.getResponseTimeout());
+        if (config.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        var movieCodecs = MovieCodecs.create();
+        var webClient = WebClient.builder()
+                .baseUrl(config.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> {
+                    movieCodecs.register(codecs);
+                    StreamingDecoding.maxInMemorySize(config.getMaxInMemorySize()).accept(codecs);
+                })
+                .build();
+        return new PooledWebClient(webClient, connectionProvider);
+    }
+}
@@ -13,6 +13,8 @@ public class Movie {
     private MovieInfo movieInfo;
     private List<Review> reviewList;
     private Revenue revenue;
+    private boolean reviewsUnavailable;
+    private boolean revenueUnavailable;
 
     public Movie(MovieInfo movieInfo, List<Review> reviewList) {
         this.movieInfo = movieInfo;
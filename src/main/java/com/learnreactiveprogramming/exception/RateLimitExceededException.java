@@ -0,0 +1,10 @@
+package com.learnreactiveprogramming.exception;
+
+public class RateLimitExceededException extends RuntimeException {
+    String message;
+
+    public RateLimitExceededException(String message) {
+        super(message);
+        this.message = message;
+    }
+}
@@ -0,0 +1,11 @@
+package com.learnreactiveprogramming.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.learnreactiveprogramming.MovieAssembly")
+@Label("Movie Assembly")
+@Description("Zip of the movie info, reviews and revenue into a movie, including the time spent waiting for them.")
+final class MovieAssemblyEvent extends MovieStageEvent {
+}
@@ -0,0 +1,11 @@
+package com.learnreactiveprogramming.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.learnreactiveprogramming.MovieInfoFetch")
+@Label("Movie Info Fetch")
+@Description("Lookup of the movie info of one movie.")
+final class MovieInfoFetchEvent extends MovieStageEvent {
+}
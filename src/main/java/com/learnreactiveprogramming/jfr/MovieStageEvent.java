@@ -0,0 +1,29 @@
+package com.learnreactiveprogramming.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * A stage of a movie aggregation, timed from subscription to termination. The event thread is the one that saw
+ * the termination; {@code subscribeThread} is the one that subscribed, so thread hops show in the recording.
+ */
+@Category({"Movies", "Reactive"})
+@StackTrace(false)
+abstract class MovieStageEvent extends Event {
+
+    @Label("Movie Id")
+    long movieId;
+
+    @Label("Subscribe Thread")
+    Thread subscribeThread;
+
+    @Label("Outcome")
+    @Description("SUCCESS, EMPTY, ERROR or CANCELLED")
+    String outcome;
+
+    @Label("Error")
+    String error;
+}
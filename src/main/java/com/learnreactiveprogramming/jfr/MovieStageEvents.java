@@ -0,0 +1,111 @@
+package com.learnreactiveprogramming.jfr;
+
+import jdk.jfr.EventType;
+import reactor.core.observability.DefaultSignalListener;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.retry.Retry;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Emits the movie JFR events from reactive pipelines, e.g.
+ * {@code movieInfoMono.transform(MovieStageEvents.movieInfoFetch(movieId))}. Whether an event type is enabled is
+ * checked when the pipeline is assembled: with no recording running, or the event disabled, the source is returned
+ * untouched, so the cost is a volatile read per call. Record with
+ * {@code -XX:StartFlightRecording=filename=movies.jfr} and filter on the {@code Movies} category in JMC.
+ */
+public final class MovieStageEvents {
+
+    private static final EventType MOVIE_INFO_FETCH = EventType.getEventType(MovieInfoFetchEvent.class);
+    private static final EventType REVIEW_FETCH = EventType.getEventType(ReviewFetchEvent.class);
+    private static final EventType REVENUE_FETCH = EventType.getEventType(RevenueFetchEvent.class);
+    private static final EventType MOVIE_ASSEMBLY = EventType.getEventType(MovieAssemblyEvent.class);
+    private static final EventType RETRY_ATTEMPT = EventType.getEventType(RetryAttemptEvent.class);
+
+    private MovieStageEvents() {
+    }
+
+    public static <T> UnaryOperator<Mono<T>> movieInfoFetch(long movieId) {
+        return stage(MOVIE_INFO_FETCH, MovieInfoFetchEvent::new, movieId);
+    }
+
+    public static <T> UnaryOperator<Mono<T>> reviewFetch(long movieId) {
+        return stage(REVIEW_FETCH, ReviewFetchEvent::new, movieId);
+    }
+
+    public static <T> UnaryOperator<Mono<T>> revenueFetch(long movieId) {
+        return stage(REVENUE_FETCH, RevenueFetchEvent::new, movieId);
+    }
+
+    public static <T> UnaryOperator<Mono<T>> assembly(long movieId) {
+        return stage(MOVIE_ASSEMBLY, MovieAssemblyEvent::new, movieId);
+    }
+
+    /**
+     * For {@code RetrySpec.doBeforeRetry}; {@code movieId} is 0 when the retry covers the whole catalog.
+     */
+    public static void retryAttempt(long movieId, String stage, Retry.RetrySignal retrySignal) {
+        if (!RETRY_ATTEMPT.isEnabled()) {
+            return;
+        }
+        var event = new RetryAttemptEvent();
+        event.movieId = movieId;
+        event.stage = stage;
+        event.attempt = retrySignal.totalRetries() + 1;
+        event.failure = String.valueOf(retrySignal.failure());
+        event.commit();
+    }
+
+    private static <T> UnaryOperator<Mono<T>> stage(EventType type, Supplier<MovieStageEvent> eventFactory,
+                                                    long movieId) {
+        return source -> type.isEnabled()
+                ? source.tap(() -> new StageListener<>(eventFactory.get(), movieId))
+                : source;
+    }
+
+    private static final class StageListener<T> extends DefaultSignalListener<T> {
+        private final MovieStageEvent event;
+        private boolean emitted;
+        private Throwable error;
+
+        private StageListener(MovieStageEvent event, long movieId) {
+            this.event = event;
+            event.movieId = movieId;
+        }
+
+        @Override
+        public void doFirst() {
+            event.subscribeThread = Thread.currentThread();
+            event.begin();
+        }
+
+        @Override
+        public void doOnNext(T value) {
+            emitted = true;
+        }
+
+        @Override
+        public void doOnError(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void doFinally(SignalType terminationType) {
+            event.end();
+            if (!event.shouldCommit()) {
+                return;
+            }
+            event.outcome = switch (terminationType) {
+                case ON_ERROR -> "ERROR";
+                case CANCEL -> emitted ? "SUCCESS" : "CANCELLED";
+                default -> emitted ? "SUCCESS" : "EMPTY";
+            };
+            if (error != null) {
+                event.error = error.toString();
+            }
+            event.commit();
+        }
+    }
+}
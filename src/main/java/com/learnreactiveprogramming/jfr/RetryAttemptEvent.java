@@ -0,0 +1,29 @@
+package com.learnreactiveprogramming.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.learnreactiveprogramming.RetryAttempt")
+@Label("Retry Attempt")
+@Description("A failed attempt that is about to be retried.")
+@Category({"Movies", "Reactive"})
+@StackTrace(false)
+final class RetryAttemptEvent extends Event {
+
+    @Label("Movie Id")
+    @Description("0 when the retry covers the whole catalog")
+    long movieId;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Attempt")
+    long attempt;
+
+    @Label("Failure")
+    String failure;
+}
@@ -0,0 +1,11 @@
+package com.learnreactiveprogramming.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.learnreactiveprogramming.RevenueFetch")
+@Label("Revenue Fetch")
+@Description("Lookup of the revenue of one movie.")
+final class RevenueFetchEvent extends MovieStageEvent {
+}
@@ -0,0 +1,11 @@
+package com.learnreactiveprogramming.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.learnreactiveprogramming.ReviewFetch")
+@Label("Review Fetch")
+@Description("Lookup of the reviews of one movie.")
+final class ReviewFetchEvent extends MovieStageEvent {
+}
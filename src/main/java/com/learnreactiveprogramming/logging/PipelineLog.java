@@ -0,0 +1,90 @@
+package com.learnreactiveprogramming.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Logging state shared by every subscription to one named pipeline. The config is read on each signal, so a change
+ * made through {@link SignalLogRegistry} applies to subscriptions that are already running.
+ */
+public final class PipelineLog {
+
+    static final String LOGGER_PREFIX = "reactive.pipeline.";
+
+    private final String name;
+    private final Logger logger;
+    private volatile SignalLogConfig override;
+    private final AtomicLongArray sampleBudgets = new AtomicLongArray(SignalType.values().length);
+
+    PipelineLog(String name) {
+        this.name = name;
+        this.logger = LoggerFactory.getLogger(LOGGER_PREFIX + name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SignalLogConfig getConfig() {
+        var config = override;
+        return config != null ? config : SignalLogRegistry.getDefaults();
+    }
+
+    void setOverride(SignalLogConfig override) {
+        this.override = override;
+    }
+
+    /**
+     * A builder with the pipeline and signal already attached as key-value pairs, or {@code null} when the signal
+     * is switched off, below the logger's level or dropped by sampling; callers add arguments only after this
+     * check, so a disabled signal costs a map lookup.
+     */
+    LoggingEventBuilder event(SignalType signalType) {
+        var config = getConfig();
+        Level level = config.level(signalType);
+        if (level == null || !logger.isEnabledForLevel(level)) {
+            return null;
+        }
+        if (config.isSampled(signalType) && !sample(config, signalType)) {
+            return null;
+        }
+        return logger.atLevel(level)
+                .addKeyValue("pipeline", name)
+                .addKeyValue("signal", signalType);
+    }
+
+    private boolean sample(SignalLogConfig config, SignalType signalType) {
+        if (config.getSampleProbability() < 1.0
+                && ThreadLocalRandom.current().nextDouble() >= config.getSampleProbability()) {
+            return false;
+        }
+        if (config.getMaxSampledPerSecond() == SignalLogConfig.UNLIMITED) {
+            return true;
+        }
+        return takeFromBudget(signalType.ordinal(), config.getMaxSampledPerSecond());
+    }
+
+    /**
+     * Each signal type has its own per-second budget, packed as the second in the high 32 bits and the count in
+     * the low 32 bits, so moving to a new second and counting in it is a single CAS.
+     */
+    private boolean takeFromBudget(int index, int maxPerSecond) {
+        var window = (int) (System.nanoTime() / 1_000_000_000L);
+        for (;;) {
+            var budget = sampleBudgets.get(index);
+            var count = (int) (budget >>> 32) == window ? (int) budget : 0;
+            if (count >= maxPerSecond) {
+                return false;
+            }
+            if (sampleBudgets.compareAndSet(index, budget, ((long) window << 32) | (count + 1))) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.learnreactiveprogramming.logging;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.slf4j.event.Level;
+import reactor.core.publisher.SignalType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * How a named pipeline logs its signals: the slf4j level per {@link SignalType} (absent means the signal is not
+ * logged), and which signals are sampled, by probability and by a per-second cap that each sampled signal type
+ * gets on its own. Terminal signals are not sampled by default, so errors and completions always show.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class SignalLogConfig {
+
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    @Builder.Default
+    private Map<SignalType, Level> levels = defaultLevels();
+    @Builder.Default
+    private Set<SignalType> sampledSignals = Set.of(SignalType.ON_NEXT, SignalType.REQUEST);
+    @Builder.Default
+    private double sampleProbability = 1.0;
+    @Builder.Default
+    private int maxSampledPerSecond = UNLIMITED;
+
+    public static SignalLogConfig ofDefaults() {
+        return SignalLogConfig.builder().build();
+    }
+
+    public static SignalLogConfig off() {
+        return SignalLogConfig.builder().levels(Map.of()).build();
+    }
+
+    public Level level(SignalType signalType) {
+        return levels.get(signalType);
+    }
+
+    public boolean isSampled(SignalType signalType) {
+        return sampledSignals.contains(signalType)
+                && (sampleProbability < 1.0 || maxSampledPerSecond != UNLIMITED);
+    }
+
+    private static Map<SignalType, Level> defaultLevels() {
+        var levels = new EnumMap<SignalType, Level>(SignalType.class);
+        levels.put(SignalType.ON_SUBSCRIBE, Level.INFO);
+        levels.put(SignalType.REQUEST, Level.DEBUG);
+        levels.put(SignalType.ON_NEXT, Level.DEBUG);
+        levels.put(SignalType.ON_COMPLETE, Level.INFO);
+        levels.put(SignalType.ON_ERROR, Level.WARN);
+        levels.put(SignalType.CANCEL, Level.INFO);
+        return levels;
+    }
+}
@@ -0,0 +1,47 @@
+package com.learnreactiveprogramming.logging;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Runtime registry of per-pipeline logging configuration. Pipelines without their own config follow the defaults.
+ */
+public final class SignalLogRegistry {
+
+    private static final Map<String, PipelineLog> PIPELINES = new ConcurrentHashMap<>();
+    private static volatile SignalLogConfig defaults = SignalLogConfig.ofDefaults();
+
+    private SignalLogRegistry() {
+    }
+
+    public static PipelineLog pipeline(String name) {
+        return PIPELINES.computeIfAbsent(name, PipelineLog::new);
+    }
+
+    public static Set<String> pipelineNames() {
+        return Set.copyOf(PIPELINES.keySet());
+    }
+
+    public static void configure(String name, SignalLogConfig config) {
+        pipeline(name).setOverride(config);
+    }
+
+    public static void configure(String name, UnaryOperator<SignalLogConfig.SignalLogConfigBuilder> customizer) {
+        var pipeline = pipeline(name);
+        pipeline.setOverride(customizer.apply(pipeline.getConfig().toBuilder()).build());
+    }
+
+    public static void reset(String name) {
+        pipeline(name).setOverride(null);
+    }
+
+    public static SignalLogConfig getDefaults() {
+        return defaults;
+    }
+
+    public static void setDefaults(SignalLogConfig config) {
+        defaults = config;
+    }
+}
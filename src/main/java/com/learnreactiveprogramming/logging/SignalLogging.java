@@ -0,0 +1,91 @@
+package com.learnreactiveprogramming.logging;
+
+import org.reactivestreams.Publisher;
+import reactor.core.observability.DefaultSignalListener;
+import reactor.core.observability.SignalListener;
+import reactor.core.observability.SignalListenerFactory;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.ContextView;
+
+/**
+ * Replacement for {@code .log()}: {@code .tap(SignalLogging.logged("movies.getAllMovies"))} logs the pipeline's
+ * signals to the {@code reactive.pipeline.<name>} logger as structured key-value events, at the levels and
+ * sampling configured in {@link SignalLogRegistry}. Values are only rendered when an event is actually written.
+ */
+public final class SignalLogging {
+
+    private SignalLogging() {
+    }
+
+    public static <T> SignalListenerFactory<T, PipelineLog> logged(String pipeline) {
+        return new SignalListenerFactory<>() {
+            @Override
+            public PipelineLog initializePublisherState(Publisher<? extends T> source) {
+                return SignalLogRegistry.pipeline(pipeline);
+            }
+
+            @Override
+            public SignalListener<T> createListener(Publisher<? extends T> source, ContextView listenerContext,
+                                                    PipelineLog publisherState) {
+                return new LoggingSignalListener<>(publisherState);
+            }
+        };
+    }
+
+    private static final class LoggingSignalListener<T> extends DefaultSignalListener<T> {
+        private final PipelineLog pipelineLog;
+
+        private LoggingSignalListener(PipelineLog pipelineLog) {
+            this.pipelineLog = pipelineLog;
+        }
+
+        @Override
+        public void doOnSubscription() {
+            var event = pipelineLog.event(SignalType.ON_SUBSCRIBE);
+            if (event != null) {
+                event.log("onSubscribe");
+            }
+        }
+
+        @Override
+        public void doOnRequest(long requested) {
+            var event = pipelineLog.event(SignalType.REQUEST);
+            if (event != null) {
+                event.addKeyValue("requested", requested == Long.MAX_VALUE ? "unbounded" : requested)
+                        .log("request");
+            }
+        }
+
+        @Override
+        public void doOnNext(T value) {
+            var event = pipelineLog.event(SignalType.ON_NEXT);
+            if (event != null) {
+                event.addArgument(() -> String.valueOf(value)).log("onNext({})");
+            }
+        }
+
+        @Override
+        public void doOnComplete() {
+            var event = pipelineLog.event(SignalType.ON_COMPLETE);
+            if (event != null) {
+                event.log("onComplete");
+            }
+        }
+
+        @Override
+        public void doOnError(Throwable error) {
+            var event = pipelineLog.event(SignalType.ON_ERROR);
+            if (event != null) {
+                event.setCause(error).log("onError");
+            }
+        }
+
+        @Override
+        public void doOnCancel() {
+            var event = pipelineLog.event(SignalType.CANCEL);
+            if (event != null) {
+                event.log("cancel");
+            }
+        }
+    }
+}
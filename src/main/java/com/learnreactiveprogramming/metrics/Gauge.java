@@ -0,0 +1,52 @@
+package com.learnreactiveprogramming.metrics;
+
+import java.lang.ref.WeakReference;
+import java.util.OptionalDouble;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * One gauge series, identified by its name and an {@code instance} number that is unique per name and scraped as
+ * the {@code owner} label, so several service instances report side by side instead of replacing each other. A
+ * gauge registered with an owner holds it weakly and is dropped once the owner is garbage collected;
+ * {@link #remove()} drops it explicitly.
+ */
+public final class Gauge {
+
+    private final MetricsRegistry registry;
+    private final String name;
+    private final String instance;
+    private final WeakReference<Object> owner;
+    private final ToDoubleFunction<Object> value;
+
+    Gauge(MetricsRegistry registry, String name, String instance, Object owner, ToDoubleFunction<Object> value) {
+        this.registry = registry;
+        this.name = name;
+        this.instance = instance;
+        this.owner = owner != null ? new WeakReference<>(owner) : null;
+        this.value = value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getInstance() {
+        return instance;
+    }
+
+    public void remove() {
+        registry.remove(this);
+    }
+
+    boolean isCollected() {
+        return owner != null && owner.get() == null;
+    }
+
+    OptionalDouble sample() {
+        if (owner == null) {
+            return OptionalDouble.of(value.applyAsDouble(null));
+        }
+        var current = owner.get();
+        return current != null ? OptionalDouble.of(value.applyAsDouble(current)) : OptionalDouble.empty();
+    }
+}
@@ -0,0 +1,18 @@
+package com.learnreactiveprogramming.metrics;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Percentiles of a latency histogram, in nanoseconds.
+ */
+public record LatencySummary(long count, long p50, long p90, long p99, long p999, long max) {
+
+    static LatencySummary of(Histogram histogram) {
+        return new LatencySummary(histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50.0),
+                histogram.getValueAtPercentile(90.0),
+                histogram.getValueAtPercentile(99.0),
+                histogram.getValueAtPercentile(99.9),
+                histogram.getMaxValue());
+    }
+}
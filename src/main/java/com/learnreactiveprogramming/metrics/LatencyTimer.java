@@ -0,0 +1,36 @@
+package com.learnreactiveprogramming.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * A plain latency distribution for measurements that are not a whole pipeline, such as the time a task waits in
+ * a scheduler queue. Recording is lock-free; {@link #snapshot()} folds the interval into the cumulative histogram.
+ */
+public final class LatencyTimer {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram cumulative = new Histogram(SIGNIFICANT_DIGITS);
+    private Histogram interval;
+
+    LatencyTimer(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos) {
+        recorder.recordValue(Math.max(0, nanos));
+    }
+
+    public synchronized LatencySummary snapshot() {
+        interval = recorder.getIntervalHistogram(interval);
+        cumulative.add(interval);
+        return LatencySummary.of(cumulative);
+    }
+}
@@ -0,0 +1,211 @@
+package com.learnreactiveprogramming.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Pattern;
+
+/**
+ * In-process registry of {@link PipelineTimer}s, {@link LatencyTimer}s and gauges. {@link #scrape()} renders the Prometheus text format
+ * for an HTTP endpoint or a scraper; {@link #dump()} logs a compact table for local runs.
+ */
+@Slf4j
+public final class MetricsRegistry {
+
+    public static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private static final Pattern INVALID_METRIC_CHARACTERS = Pattern.compile("[^a-zA-Z0-9_:]");
+
+    private final Map<String, PipelineTimer> timers = new ConcurrentHashMap<>();
+    private final Map<String, LatencyTimer> latencyTimers = new ConcurrentHashMap<>();
+    private final Set<Gauge> gauges = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicLong> gaugeInstances = new ConcurrentHashMap<>();
+    private final Map<String, PipelineTimer.RateWindow> snapshotRates = new ConcurrentHashMap<>();
+    private final Map<String, PipelineTimer.RateWindow> scrapeRates = new ConcurrentHashMap<>();
+    private final Map<String, PipelineTimer.RateWindow> dumpRates = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    public PipelineTimer timer(String name) {
+        return timers.computeIfAbsent(name, PipelineTimer::new);
+    }
+
+    public LatencyTimer latencyTimer(String name) {
+        return latencyTimers.computeIfAbsent(name, LatencyTimer::new);
+    }
+
+    /**
+     * Registers a gauge whose supplier is read on every snapshot and held until the returned gauge is removed; use
+     * it for process-wide state. Every registration gets its own {@code instance}, nothing is replaced.
+     */
+    public Gauge gauge(String name, DoubleSupplier value) {
+        return register(name, null, ignored -> value.getAsDouble());
+    }
+
+    /**
+     * Registers a gauge reading {@code value} from {@code owner}, which is held weakly: the gauge disappears once
+     * the owner is garbage collected, so short-lived service instances are not pinned by their metrics.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Gauge gauge(String name, T owner, ToDoubleFunction<T> value) {
+        return register(name, owner, (ToDoubleFunction<Object>) value);
+    }
+
+    private Gauge register(String name, Object owner, ToDoubleFunction<Object> value) {
+        var instance = gaugeInstances.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+        var gauge = new Gauge(this, name, String.valueOf(instance), owner, value);
+        gauges.add(gauge);
+        return gauge;
+    }
+
+    void remove(Gauge gauge) {
+        gauges.remove(gauge);
+    }
+
+    public List<PipelineTimer.Snapshot> snapshot() {
+        return snapshot(snapshotRates);
+    }
+
+    /**
+     * {@link #snapshot()}, {@link #scrape()} and {@link #dump()} each keep their own rate windows, so one reader
+     * does not shorten the interval the element rate of another covers.
+     */
+    private List<PipelineTimer.Snapshot> snapshot(Map<String, PipelineTimer.RateWindow> rates) {
+        return timers.values().stream()
+                .map(timer -> timer.snapshot(rates.computeIfAbsent(timer.getName(),
+                        name -> new PipelineTimer.RateWindow())))
+                .sorted(Comparator.comparing(PipelineTimer.Snapshot::name))
+                .toList();
+    }
+
+    public Map<String, LatencySummary> latencies() {
+        var latencies = new TreeMap<String, LatencySummary>();
+        latencyTimers.forEach((name, timer) -> latencies.put(name, timer.snapshot()));
+        return latencies;
+    }
+
+    /**
+     * Current gauge values by name, then by instance.
+     */
+    public Map<String, Map<String, Double>> gaugeValues() {
+        gauges.removeIf(Gauge::isCollected);
+        var values = new TreeMap<String, Map<String, Double>>();
+        for (var gauge : gauges) {
+            gauge.sample().ifPresent(value -> values
+                    .computeIfAbsent(gauge.getName(), name -> new TreeMap<String, Double>(Comparator.comparingLong(Long::parseLong)))
+                    .put(gauge.getInstance(), value));
+        }
+        return values;
+    }
+
+    /**
+     * Renders the Prometheus text exposition format: every metric family is written once, with its {@code # TYPE},
+     * and gauge names are sanitised into metric names. The gauge instance goes into an {@code owner} label, since
+     * Prometheus reserves {@code instance} for the scrape target.
+     */
+    public String scrape() {
+        var exposition = new Exposition();
+        var timers = snapshot(scrapeRates);
+        for (var timer : timers) {
+            var labels = label("pipeline", timer.name());
+            exposition.counter("pipeline_subscriptions_total", labels, timer.subscriptions());
+            exposition.counter("pipeline_elements_total", labels, timer.elements());
+            exposition.counter("pipeline_completions_total", labels, timer.completions());
+            exposition.counter("pipeline_errors_total", labels, timer.errors());
+            exposition.counter("pipeline_cancels_total", labels, timer.cancels());
+        }
+        for (var timer : timers) {
+            exposition.summary("pipeline_first_element_seconds", label("pipeline", timer.name()), timer.firstElement());
+        }
+        for (var timer : timers) {
+            exposition.summary("pipeline_duration_seconds", label("pipeline", timer.name()), timer.duration());
+        }
+        latencies().forEach((name, latency) -> exposition.summary("latency_seconds", label("name", name), latency));
+        gaugeValues().forEach((name, instances) -> instances.forEach((instance, value) ->
+                exposition.gauge(metricName(name), label("owner", instance), value)));
+        return exposition.render();
+    }
+
+    public void dump() {
+        var table = new StringBuilder(String.format(Locale.ROOT, "%n%-45s %8s %10s %10s %6s %6s %10s %10s %10s%n",
+                "pipeline", "subs", "elements", "elem/s", "errors", "cancel", "first p99", "p50 ms", "p99 ms"));
+        for (var timer : snapshot(dumpRates)) {
+            table.append(String.format(Locale.ROOT, "%-45s %8d %10d %10.1f %6d %6d %10.2f %10.2f %10.2f%n",
+                    timer.name(), timer.subscriptions(), timer.elements(), timer.elementsPerSecond(),
+                    timer.errors(), timer.cancels(), millis(timer.firstElement().p99()),
+                    millis(timer.duration().p50()), millis(timer.duration().p99())));
+        }
+        latencies().forEach((name, latency) -> table.append(String.format(Locale.ROOT,
+                "%-45s %8d %10s %10s %6s %6s %10s %10.2f %10.2f%n", name, latency.count(), "", "", "", "", "",
+                millis(latency.p50()), millis(latency.p99()))));
+        gaugeValues().forEach((name, instances) -> instances.forEach((instance, value) -> table.append(
+                String.format(Locale.ROOT, "%-45s %s%n", name + "#" + instance, value))));
+        log.info("Metrics:{}", table);
+    }
+
+    private static String label(String name, String value) {
+        var escaped = value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        return name + "=\"" + escaped + "\"";
+    }
+
+    private static String metricName(String name) {
+        var metric = INVALID_METRIC_CHARACTERS.matcher(name).replaceAll("_");
+        return Character.isDigit(metric.charAt(0)) ? "_" + metric : metric;
+    }
+
+    /**
+     * Collects samples per metric family, so each family is rendered as one block under its {@code # TYPE} line.
+     */
+    private static final class Exposition {
+        private final Map<String, StringBuilder> families = new LinkedHashMap<>();
+
+        void counter(String metric, String labels, long value) {
+            family(metric, "counter").append(metric).append('{').append(labels).append("} ").append(value).append('\n');
+        }
+
+        void gauge(String metric, String labels, double value) {
+            family(metric, "gauge").append(metric).append('{').append(labels).append("} ").append(value).append('\n');
+        }
+
+        void summary(String metric, String labels, LatencySummary latency) {
+            var family = family(metric, "summary");
+            quantile(family, metric, labels, "0.5", latency.p50());
+            quantile(family, metric, labels, "0.9", latency.p90());
+            quantile(family, metric, labels, "0.99", latency.p99());
+            quantile(family, metric, labels, "0.999", latency.p999());
+            family.append(metric).append("_count{").append(labels).append("} ").append(latency.count()).append('\n');
+            gauge(metric + "_max", labels, latency.max() / 1e9);
+        }
+
+        String render() {
+            var text = new StringBuilder();
+            families.values().forEach(text::append);
+            return text.toString();
+        }
+
+        private StringBuilder family(String metric, String type) {
+            return families.computeIfAbsent(metric, name -> new StringBuilder()
+                    .append("# TYPE ").append(name).append(' ').append(type).append('\n'));
+        }
+
+        private static void quantile(StringBuilder family, String metric, String labels, String quantile, long nanos) {
+            family.append(metric).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                    .append(nanos / 1e9).append('\n');
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
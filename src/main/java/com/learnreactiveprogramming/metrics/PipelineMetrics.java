@@ -0,0 +1,65 @@
+package com.learnreactiveprogramming.metrics;
+
+import org.reactivestreams.Publisher;
+import reactor.core.Scannable;
+import reactor.core.observability.DefaultSignalListener;
+import reactor.core.observability.SignalListener;
+import reactor.core.observability.SignalListenerFactory;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.ContextView;
+
+/**
+ * Times a pipeline under the name given by {@code .name(..)} just before the tap, e.g.
+ * {@code .name("movies.getAllMovies").tap(PipelineMetrics.timed())}: subscription to first element, subscription
+ * to termination, element count, and completions, errors and cancellations in {@link MetricsRegistry#INSTANCE}.
+ */
+public final class PipelineMetrics {
+
+    private PipelineMetrics() {
+    }
+
+    public static <T> SignalListenerFactory<T, PipelineTimer> timed() {
+        return new SignalListenerFactory<>() {
+            @Override
+            public PipelineTimer initializePublisherState(Publisher<? extends T> source) {
+                return MetricsRegistry.INSTANCE.timer(Scannable.from(source).name());
+            }
+
+            @Override
+            public SignalListener<T> createListener(Publisher<? extends T> source, ContextView listenerContext,
+                                                    PipelineTimer publisherState) {
+                return new TimingSignalListener<>(publisherState);
+            }
+        };
+    }
+
+    private static final class TimingSignalListener<T> extends DefaultSignalListener<T> {
+        private final PipelineTimer timer;
+        private long subscribedAt;
+        private boolean firstElementSeen;
+
+        private TimingSignalListener(PipelineTimer timer) {
+            this.timer = timer;
+        }
+
+        @Override
+        public void doFirst() {
+            subscribedAt = System.nanoTime();
+            timer.recordSubscription();
+        }
+
+        @Override
+        public void doOnNext(T value) {
+            if (!firstElementSeen) {
+                firstElementSeen = true;
+                timer.recordFirstElement(System.nanoTime() - subscribedAt);
+            }
+            timer.recordElement();
+        }
+
+        @Override
+        public void doFinally(SignalType terminationType) {
+            timer.recordTermination(terminationType, System.nanoTime() - subscribedAt);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.learnreactiveprogramming.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timings of one named pipeline. Subscriptions record into lock-free HdrHistogram {@link Recorder}s; a snapshot
+ * swaps out the interval histograms and folds them into the cumulative ones, so readers never block writers.
+ */
+public final class PipelineTimer {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    public record Snapshot(String name, long subscriptions, long elements, double elementsPerSecond,
+                           long completions, long errors, long cancels,
+                           LatencySummary firstElement, LatencySummary duration) {
+    }
+
+    private final String name;
+    private final Recorder firstElementRecorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder durationRecorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram firstElement = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram duration = new Histogram(SIGNIFICANT_DIGITS);
+    private final LongAdder subscriptions = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder completions = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder cancels = new LongAdder();
+
+    private final long createdAtNanos = System.nanoTime();
+    private final RateWindow rateWindow = new RateWindow();
+
+    private Histogram firstElementInterval;
+    private Histogram durationInterval;
+
+    PipelineTimer(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    void recordSubscription() {
+        subscriptions.increment();
+    }
+
+    void recordFirstElement(long nanos) {
+        firstElementRecorder.recordValue(nanos);
+    }
+
+    void recordElement() {
+        elements.increment();
+    }
+
+    void recordTermination(SignalType signalType, long nanos) {
+        switch (signalType) {
+            case ON_COMPLETE -> completions.increment();
+            case ON_ERROR -> errors.increment();
+            case CANCEL -> cancels.increment();
+            default -> {
+                return;
+            }
+        }
+        durationRecorder.recordValue(nanos);
+    }
+
+    /**
+     * Cumulative counts and latencies since the timer was created; the element rate covers the time since the
+     * previous call of this method.
+     */
+    public Snapshot snapshot() {
+        return snapshot(rateWindow);
+    }
+
+    /**
+     * Like {@link #snapshot()}, with the element rate covering the time since the previous snapshot taken with the
+     * same window, so each reader sees the rate over its own interval.
+     */
+    public synchronized Snapshot snapshot(RateWindow window) {
+        firstElementInterval = firstElementRecorder.getIntervalHistogram(firstElementInterval);
+        firstElement.add(firstElementInterval);
+        durationInterval = durationRecorder.getIntervalHistogram(durationInterval);
+        duration.add(durationInterval);
+
+        var now = System.nanoTime();
+        var elementCount = elements.sum();
+        var elementsPerSecond = window.rate(elementCount, now, createdAtNanos);
+
+        return new Snapshot(name, subscriptions.sum(), elementCount, elementsPerSecond,
+                completions.sum(), errors.sum(), cancels.sum(),
+                LatencySummary.of(firstElement), LatencySummary.of(duration));
+    }
+
+    /**
+     * Element count and time of a reader's previous snapshot of one timer.
+     */
+    public static final class RateWindow {
+        private boolean started;
+        private long lastNanos;
+        private long lastElements;
+
+        private double rate(long elements, long now, long createdAtNanos) {
+            var since = started ? lastNanos : createdAtNanos;
+            var rate = (elements - lastElements) * 1e9 / Math.max(1, now - since);
+            started = true;
+            lastNanos = now;
+            lastElements = elements;
+            return rate;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.learnreactiveprogramming.priority;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.function.Function;
+
+/**
+ * Request priority carried in the Reactor {@link Context}. Pipelines without a priority are treated as
+ * {@link #INTERACTIVE}, so only bulk work has to be tagged.
+ */
+public enum Priority {
+    INTERACTIVE,
+    BULK;
+
+    private static final String CONTEXT_KEY = Priority.class.getName();
+
+    public static Priority from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, INTERACTIVE);
+    }
+
+    /**
+     * Tags the pipeline with this priority, replacing any priority set by the caller.
+     */
+    public Function<Context, Context> asContext() {
+        return context -> context.put(CONTEXT_KEY, this);
+    }
+
+    /**
+     * Tags the pipeline with this priority unless the caller already chose one, e.g. a batch job calling
+     * {@code getMovieById} keeps its {@link #BULK} tag.
+     */
+    public Function<Context, Context> asDefault() {
+        return context -> context.hasKey(CONTEXT_KEY) ? context : context.put(CONTEXT_KEY, this);
+    }
+}
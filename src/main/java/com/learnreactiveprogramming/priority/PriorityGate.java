@@ -0,0 +1,91 @@
+package com.learnreactiveprogramming.priority;
+
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import com.learnreactiveprogramming.resilience.PermitQueue;
+import com.learnreactiveprogramming.resilience.PermitQueue.Permit;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Admits at most {@code permits} calls at a time and orders the waiting ones by the {@link Priority} in their
+ * context. Reactor Netty hands out pooled connections to pending acquires in FIFO order, so placing a gate sized to
+ * the pool's {@code maxConnections} in front of it lets interactive calls take the next free connection ahead of
+ * queued bulk calls. Every {@code round(1 / minBulkShare)}-th permit goes to a waiting bulk call, so a steady stream
+ * of interactive calls cannot starve bulk work.
+ */
+public class PriorityGate {
+
+    private final String name;
+    private final long bulkEvery;
+    private final Queue<Permit<Priority>> interactiveWaiters = new ConcurrentLinkedQueue<>();
+    private final Queue<Permit<Priority>> bulkWaiters = new ConcurrentLinkedQueue<>();
+    private final PermitQueue<Priority> permitQueue;
+
+    public PriorityGate(String name, int permits, double minBulkShare) {
+        if (minBulkShare <= 0 || minBulkShare > 1) {
+            throw new IllegalArgumentException("minBulkShare must be in (0, 1], was " + minBulkShare);
+        }
+        this.name = name;
+        this.bulkEvery = Math.round(1 / minBulkShare);
+        this.permitQueue = new PermitQueue<>(() -> permits, new PriorityWaiters());
+        MetricsRegistry.INSTANCE.gauge("priority." + name + ".inFlight", this, PriorityGate::getInFlight);
+        MetricsRegistry.INSTANCE.gauge("priority." + name + ".interactiveWaiting", this,
+                gate -> gate.getWaiting(Priority.INTERACTIVE));
+        MetricsRegistry.INSTANCE.gauge("priority." + name + ".bulkWaiting", this, gate -> gate.getWaiting(Priority.BULK));
+    }
+
+    public <T> Mono<T> limit(Mono<T> source) {
+        return Mono.deferContextual(ctx -> permitQueue.limit(Priority.from(ctx), permit -> source));
+    }
+
+    public <T> Flux<T> limit(Flux<T> source) {
+        return Flux.deferContextual(ctx -> permitQueue.limitMany(Priority.from(ctx), permit -> source));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getInFlight() {
+        return permitQueue.getInFlight();
+    }
+
+    public int getWaiting(Priority priority) {
+        return waiters(priority).size();
+    }
+
+    private Queue<Permit<Priority>> waiters(Priority priority) {
+        return priority == Priority.BULK ? bulkWaiters : interactiveWaiters;
+    }
+
+    private final class PriorityWaiters implements PermitQueue.Waiters<Priority> {
+
+        @Override
+        public void offer(Permit<Priority> permit) {
+            waiters(permit.key()).offer(permit);
+        }
+
+        @Override
+        public Permit<Priority> poll(long grant) {
+            var bulkTurn = grant % bulkEvery == 0;
+            var permit = bulkTurn ? bulkWaiters.poll() : interactiveWaiters.poll();
+            if (permit == null) {
+                permit = bulkTurn ? interactiveWaiters.poll() : bulkWaiters.poll();
+            }
+            return permit;
+        }
+
+        @Override
+        public boolean remove(Permit<Priority> permit) {
+            return waiters(permit.key()).remove(permit);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return interactiveWaiters.isEmpty() && bulkWaiters.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.learnreactiveprogramming.priority;
+
+import com.learnreactiveprogramming.metrics.Gauge;
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Fixed pool of worker threads draining one bounded queue per {@link Priority}. Workers take interactive tasks
+ * first, so they overtake bulk tasks that are already queued, except that every {@code round(1 / minBulkShare)}-th
+ * task is taken from the bulk queue when it has work, which keeps bulk work from starving. A full queue rejects
+ * the task with a {@link RejectedExecutionException}, like {@code boundedElastic}, which {@code subscribeOn} turns
+ * into an error signal without going through {@code Schedulers.handleError}. The workers may block. Disposing the
+ * scheduler cancels the tasks still queued, so they never run.
+ */
+@Slf4j
+public class PriorityScheduler implements Disposable {
+
+    private final String name;
+    private final long bulkEvery;
+    private final BlockingQueue<Runnable> interactiveTasks;
+    private final BlockingQueue<Runnable> bulkTasks;
+    private final Semaphore queuedTasks = new Semaphore(0);
+    private final AtomicLong dispatched = new AtomicLong();
+    private final List<Thread> workers;
+    private final Map<Priority, Scheduler> schedulers = new EnumMap<>(Priority.class);
+    private final List<Gauge> gauges;
+    private volatile boolean disposed;
+
+    public PriorityScheduler(String name, int threadCap, int queuedTaskCap, double minBulkShare) {
+        if (minBulkShare <= 0 || minBulkShare > 1) {
+            throw new IllegalArgumentException("minBulkShare must be in (0, 1], was " + minBulkShare);
+        }
+        this.name = name;
+        this.bulkEvery = Math.round(1 / minBulkShare);
+        this.interactiveTasks = new ArrayBlockingQueue<>(queuedTaskCap);
+        this.bulkTasks = new ArrayBlockingQueue<>(queuedTaskCap);
+        for (var priority : Priority.values()) {
+            schedulers.put(priority, new PriorityView(priority));
+        }
+        this.workers = IntStream.rangeClosed(1, threadCap)
+                .mapToObj(i -> {
+                    var worker = new Thread(this::work, name + "-" + i);
+                    worker.setDaemon(true);
+                    worker.start();
+                    return worker;
+                })
+                .toList();
+        this.gauges = List.of(
+                MetricsRegistry.INSTANCE.gauge("priority." + name + ".interactiveQueued", interactiveTasks::size),
+                MetricsRegistry.INSTANCE.gauge("priority." + name + ".bulkQueued", bulkTasks::size));
+    }
+
+    /**
+     * A {@link Scheduler} view whose tasks are queued with the given priority, e.g. for {@code subscribeOn}.
+     */
+    public Scheduler forPriority(Priority priority) {
+        return schedulers.get(priority);
+    }
+
+    public Executor executor(Priority priority) {
+        return task -> submit(priority, new Task(task));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQueuedTasks(Priority priority) {
+        return queue(priority).size();
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        workers.forEach(Thread::interrupt);
+        var remaining = new ArrayList<Runnable>();
+        interactiveTasks.drainTo(remaining);
+        bulkTasks.drainTo(remaining);
+        remaining.forEach(task -> ((Disposable) task).dispose());
+        if (!remaining.isEmpty()) {
+            log.debug("Cancelled {} queued tasks of scheduler {}", remaining.size(), name);
+        }
+        gauges.forEach(Gauge::remove);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    /**
+     * Only queues {@link Task}s and {@link PriorityWorker}s, so {@link #dispose()} can cancel whatever is left.
+     */
+    private void submit(Priority priority, Runnable task) {
+        if (disposed) {
+            throw new RejectedExecutionException("Scheduler " + name + " is disposed");
+        }
+        var queue = queue(priority);
+        if (!queue.offer(task)) {
+            throw new RejectedExecutionException("Scheduler " + name + " has no room for " + priority + " tasks");
+        }
+        if (disposed && queue.remove(task)) {
+            throw new RejectedExecutionException("Scheduler " + name + " is disposed");
+        }
+        queuedTasks.release();
+    }
+
+    private BlockingQueue<Runnable> queue(Priority priority) {
+        return priority == Priority.BULK ? bulkTasks : interactiveTasks;
+    }
+
+    private void work() {
+        while (!disposed) {
+            try {
+                queuedTasks.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            var task = next();
+            if (task != null) {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * Only called while holding a permit of {@code queuedTasks}, so one of the queues has a task for us unless
+     * {@link #dispose()} cancelled it.
+     */
+    private Runnable next() {
+        var bulkTurn = dispatched.incrementAndGet() % bulkEvery == 0;
+        var first = bulkTurn ? bulkTasks : interactiveTasks;
+        var second = bulkTurn ? interactiveTasks : bulkTasks;
+        while (!disposed) {
+            var task = first.poll();
+            if (task == null) {
+                task = second.poll();
+            }
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    private final class Task implements Runnable, Disposable {
+        private final Runnable delegate;
+        private volatile boolean cancelled;
+
+        private Task(Runnable delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            try {
+                delegate.run();
+            } catch (Throwable ex) {
+                log.error("Task on scheduler {} failed", name, ex);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled;
+        }
+    }
+
+    private final class PriorityView implements Scheduler {
+        private final Priority priority;
+
+        private PriorityView(Priority priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            var scheduled = new Task(task);
+            submit(priority, scheduled);
+            return scheduled;
+        }
+
+        @Override
+        public Worker createWorker() {
+            return new PriorityWorker(priority);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    /**
+     * Runs its tasks one at a time and in order, as Reactor expects of a worker: the first pending task queues
+     * the worker itself, and the worker thread that picks it up runs every task scheduled until it catches up.
+     */
+    private final class PriorityWorker implements Scheduler.Worker, Runnable {
+        private final Priority priority;
+        private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        private PriorityWorker(Priority priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            if (cancelled) {
+                throw new RejectedExecutionException("Worker of scheduler " + name + " is disposed");
+            }
+            var scheduled = new Task(task);
+            tasks.offer(scheduled);
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    submit(priority, this);
+                } catch (RejectedExecutionException ex) {
+                    dispose();
+                    throw ex;
+                }
+            }
+            return scheduled;
+        }
+
+        @Override
+        public void run() {
+            var missed = 1;
+            for (;;) {
+                Task task;
+                while (!cancelled && (task = tasks.poll()) != null) {
+                    task.run();
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            cancelled = true;
+            Task task;
+            while ((task = tasks.poll()) != null) {
+                task.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.learnreactiveprogramming.resilience;
+
+import com.learnreactiveprogramming.exception.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * AIMD concurrency limiter: the limit grows by one per limit-worth of fast successful calls and is cut by
+ * {@code backoffRatio} whenever a call fails or takes longer than {@code latencyThreshold}.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final PermitQueue<Void> permits = new PermitQueue<>(this::getLimit, PermitQueue.fifo());
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, Duration latencyThreshold) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Admits calls through a FIFO {@link PermitQueue}. Time the call spends waiting on a {@link RateLimiter} inside
+     * it is not counted as latency, and a {@link RateLimitExceededException} is not counted as a failure: local
+     * throttling says nothing about the downstream service.
+     */
+    public <T> Mono<T> limit(Mono<T> source) {
+        return permits.limit(null, permit -> {
+            var localWait = new LocalWait();
+            return source
+                    .doOnSuccess(value -> onSample(latencyNanos(permit, localWait), false))
+                    .doOnError(ex -> {
+                        if (!(ex instanceof RateLimitExceededException)) {
+                            onSample(latencyNanos(permit, localWait), true);
+                        }
+                    })
+                    .contextWrite(localWait::putInto);
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public int getInFlight() {
+        return permits.getInFlight();
+    }
+
+    private static long latencyNanos(PermitQueue.Permit<Void> permit, LocalWait localWait) {
+        return System.nanoTime() - permit.grantedAtNanos() - localWait.nanos();
+    }
+
+    private synchronized void onSample(long latencyNanos, boolean failed) {
+        var previous = (int) limit;
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (permits.getInFlight() >= previous / 2) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        if ((int) limit != previous) {
+            log.debug("Concurrency limit of {} changed from {} to {}", name, previous, (int) limit);
+            permits.drain();
+        }
+    }
+}
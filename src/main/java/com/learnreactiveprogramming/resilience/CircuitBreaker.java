@@ -0,0 +1,205 @@
+package com.learnreactiveprogramming.resilience;
+
+import com.learnreactiveprogramming.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Count-based circuit breaker. The circuit opens when the failure rate or the slow-call rate over the sliding
+ * window reaches its threshold; while open every call fails fast with a {@link ServiceException}. After the
+ * wait duration a few trial calls are let through in half-open state to decide whether to close it again.
+ * Errors rejected by {@link CircuitBreakerConfig#getRecordFailure()}, by default 4xx responses, count as successful
+ * calls.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    public record StateTransition(String name, State from, State to) {
+    }
+
+    private record Permission(boolean permitted, boolean halfOpen, long generation) {
+        private static final Permission DENIED = new Permission(false, false, 0);
+        private static final Permission CLOSED = new Permission(true, false, 0);
+    }
+
+    private final String name;
+    private final CircuitBreakerConfig config;
+    private final long slowCallDurationNanos;
+    private final long waitDurationInOpenStateNanos;
+    private final List<Consumer<StateTransition>> listeners = new CopyOnWriteArrayList<>();
+
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int recordedCalls;
+    private int nextIndex;
+    private int failedCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private long halfOpenGeneration;
+
+    public CircuitBreaker(String name, CircuitBreakerConfig config) {
+        this.name = name;
+        this.config = config;
+        this.slowCallDurationNanos = config.getSlowCallDuration().toNanos();
+        this.waitDurationInOpenStateNanos = config.getWaitDurationInOpenState().toNanos();
+        this.failedCalls = new boolean[config.getSlidingWindowSize()];
+        this.slowCalls = new boolean[config.getSlidingWindowSize()];
+    }
+
+    public static CircuitBreaker ofDefaults(String name) {
+        return new CircuitBreaker(name, CircuitBreakerConfig.ofDefaults());
+    }
+
+    public <T> Mono<T> protect(Mono<T> source) {
+        return Mono.defer(() -> {
+            var permission = tryAcquirePermission();
+            if (!permission.permitted()) {
+                return Mono.error(callNotPermitted());
+            }
+            var start = System.nanoTime();
+            return source
+                    .doOnSuccess(value -> onResult(System.nanoTime() - start, false))
+                    .doOnError(ex -> onResult(System.nanoTime() - start, config.getRecordFailure().test(ex)))
+                    .doOnCancel(() -> releasePermission(permission));
+        });
+    }
+
+    public <T> Flux<T> protect(Flux<T> source) {
+        return Flux.defer(() -> {
+            var permission = tryAcquirePermission();
+            if (!permission.permitted()) {
+                return Flux.error(callNotPermitted());
+            }
+            var start = System.nanoTime();
+            return source
+                    .doOnComplete(() -> onResult(System.nanoTime() - start, false))
+                    .doOnError(ex -> onResult(System.nanoTime() - start, config.getRecordFailure().test(ex)))
+                    .doOnCancel(() -> releasePermission(permission));
+        });
+    }
+
+    public void onStateTransition(Consumer<StateTransition> listener) {
+        listeners.add(listener);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private ServiceException callNotPermitted() {
+        return new ServiceException("Circuit breaker " + name + " is " + getState());
+    }
+
+    private Permission tryAcquirePermission() {
+        StateTransition transition = null;
+        Permission permission;
+        synchronized (this) {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= waitDurationInOpenStateNanos) {
+                transition = transitionTo(State.HALF_OPEN);
+            }
+            permission = switch (state) {
+                case CLOSED -> Permission.CLOSED;
+                case OPEN -> Permission.DENIED;
+                case HALF_OPEN -> halfOpenPermits > 0
+                        ? new Permission(true, true, halfOpenGeneration)
+                        : Permission.DENIED;
+            };
+            if (permission.halfOpen()) {
+                halfOpenPermits--;
+            }
+        }
+        publish(transition);
+        return permission;
+    }
+
+    /**
+     * Returns a trial call's permit when it is cancelled, but only to the half-open period that granted it; calls
+     * admitted while closed never add trial calls.
+     */
+    private synchronized void releasePermission(Permission permission) {
+        if (permission.halfOpen() && state == State.HALF_OPEN && permission.generation() == halfOpenGeneration) {
+            halfOpenPermits++;
+        }
+    }
+
+    private void onResult(long durationNanos, boolean failed) {
+        StateTransition transition = null;
+        synchronized (this) {
+            if (state != State.OPEN) {
+                record(failed, durationNanos >= slowCallDurationNanos);
+                transition = evaluate();
+            }
+        }
+        publish(transition);
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (recordedCalls == failedCalls.length) {
+            failedCount -= failedCalls[nextIndex] ? 1 : 0;
+            slowCount -= slowCalls[nextIndex] ? 1 : 0;
+        } else {
+            recordedCalls++;
+        }
+        failedCalls[nextIndex] = failed;
+        slowCalls[nextIndex] = slow;
+        failedCount += failed ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        nextIndex = (nextIndex + 1) % failedCalls.length;
+    }
+
+    private StateTransition evaluate() {
+        var minimumCalls = state == State.HALF_OPEN
+                ? config.getPermittedCallsInHalfOpenState()
+                : config.getMinimumNumberOfCalls();
+        if (recordedCalls < minimumCalls) {
+            return null;
+        }
+        var failureRate = (double) failedCount / recordedCalls;
+        var slowCallRate = (double) slowCount / recordedCalls;
+        if (failureRate >= config.getFailureRateThreshold() || slowCallRate >= config.getSlowCallRateThreshold()) {
+            log.warn("Circuit breaker {} opening, failure rate {} slow call rate {}", name, failureRate, slowCallRate);
+            return transitionTo(State.OPEN);
+        }
+        return state == State.HALF_OPEN ? transitionTo(State.CLOSED) : null;
+    }
+
+    private StateTransition transitionTo(State newState) {
+        var transition = new StateTransition(name, state, newState);
+        state = newState;
+        recordedCalls = 0;
+        nextIndex = 0;
+        failedCount = 0;
+        slowCount = 0;
+        if (newState == State.OPEN) {
+            openedAt = System.nanoTime();
+        } else if (newState == State.HALF_OPEN) {
+            halfOpenPermits = config.getPermittedCallsInHalfOpenState();
+            halfOpenGeneration++;
+        }
+        return transition;
+    }
+
+    private void publish(StateTransition transition) {
+        if (transition == null) {
+            return;
+        }
+        log.info("Circuit breaker {} transitioned from {} to {}", name, transition.from(), transition.to());
+        listeners.forEach(listener -> listener.accept(transition));
+    }
+}
@@ -0,0 +1,40 @@
+package com.learnreactiveprogramming.resilience;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+@Getter
+@Builder
+public class CircuitBreakerConfig {
+    @Builder.Default
+    private int slidingWindowSize = 20;
+    @Builder.Default
+    private int minimumNumberOfCalls = 10;
+    @Builder.Default
+    private double failureRateThreshold = 0.5;
+    @Builder.Default
+    private double slowCallRateThreshold = 0.8;
+    @Builder.Default
+    private Duration slowCallDuration = Duration.ofSeconds(2);
+    @Builder.Default
+    private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+    @Builder.Default
+    private int permittedCallsInHalfOpenState = 3;
+    @Builder.Default
+    private Predicate<Throwable> recordFailure = CircuitBreakerConfig::isNotClientError;
+
+    public static CircuitBreakerConfig ofDefaults() {
+        return CircuitBreakerConfig.builder().build();
+    }
+
+    /**
+     * A 4xx response, e.g. a 404 for an unknown movie, means the downstream is healthy and the request was wrong.
+     */
+    private static boolean isNotClientError(Throwable ex) {
+        return !(ex instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError());
+    }
+}
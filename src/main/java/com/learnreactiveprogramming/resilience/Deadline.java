@@ -0,0 +1,50 @@
+package com.learnreactiveprogramming.resilience;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Request-level deadline carried in the Reactor {@link Context}. Use {@code contextWrite(Deadline.within(timeout))}
+ * at the edge; the clock starts when the pipeline is subscribed.
+ */
+public final class Deadline {
+
+    private static final String CONTEXT_KEY = Deadline.class.getName();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static Function<Context, Context> within(Duration timeout) {
+        return context -> context.put(CONTEXT_KEY, after(timeout));
+    }
+
+    public static Optional<Deadline> from(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    /**
+     * The given share of the remaining time, for calls that must leave headroom to assemble a degraded answer.
+     */
+    public Duration remaining(double share) {
+        return Duration.ofNanos((long) (remaining().toNanos() * share));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+}
@@ -0,0 +1,105 @@
+package com.learnreactiveprogramming.resilience;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Fires a second identical call when the first has not answered within the hedge delay; the first signal wins
+ * and the other call is cancelled. The delay is either fixed or the tracked latency percentile, and hedges are
+ * paid from a budget refilled by {@code maxHedgeRatio} per request so an outage cannot double the load.
+ */
+public class HedgingPolicy {
+
+    private static final int LATENCY_SAMPLES = 256;
+    private static final int PERCENTILE_REFRESH_INTERVAL = 32;
+    private static final double MAX_HEDGE_TOKENS = 10;
+
+    private final Duration fixedDelay;
+    private final double percentile;
+    private final Duration minDelay;
+    private final double maxHedgeRatio;
+
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private long samples;
+    private long percentileNanos;
+    private double hedgeTokens;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+
+    private HedgingPolicy(Duration fixedDelay, double percentile, Duration minDelay, double maxHedgeRatio) {
+        this.fixedDelay = fixedDelay;
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+        this.maxHedgeRatio = maxHedgeRatio;
+    }
+
+    public static HedgingPolicy fixedDelay(Duration delay, double maxHedgeRatio) {
+        return new HedgingPolicy(delay, 0, delay, maxHedgeRatio);
+    }
+
+    public static HedgingPolicy percentileDelay(double percentile, Duration minDelay, double maxHedgeRatio) {
+        return new HedgingPolicy(null, percentile, minDelay, maxHedgeRatio);
+    }
+
+    public <T> Mono<T> hedge(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            onRequest();
+            var primary = timed(call.get());
+            var hedged = Mono.delay(hedgeDelay())
+                    .flatMap(tick -> tryAcquireHedge() ? timed(call.get()) : Mono.<T>never());
+            return Mono.firstWithSignal(primary, hedged);
+        });
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public long getHedgeCount() {
+        return hedges.sum();
+    }
+
+    public synchronized Duration hedgeDelay() {
+        if (fixedDelay != null) {
+            return fixedDelay;
+        }
+        return Duration.ofNanos(Math.max(minDelay.toNanos(), percentileNanos));
+    }
+
+    private <T> Mono<T> timed(Mono<T> call) {
+        return Mono.defer(() -> {
+            var start = System.nanoTime();
+            return call.doOnSuccess(value -> recordLatency(System.nanoTime() - start));
+        });
+    }
+
+    private synchronized void onRequest() {
+        requests.increment();
+        hedgeTokens = Math.min(MAX_HEDGE_TOKENS, hedgeTokens + maxHedgeRatio);
+    }
+
+    private synchronized boolean tryAcquireHedge() {
+        if (hedgeTokens < 1) {
+            return false;
+        }
+        hedgeTokens -= 1;
+        hedges.increment();
+        return true;
+    }
+
+    private synchronized void recordLatency(long latencyNanos) {
+        latencies[(int) (samples % LATENCY_SAMPLES)] = latencyNanos;
+        samples++;
+        if (fixedDelay == null && samples % PERCENTILE_REFRESH_INTERVAL == 0) {
+            var sorted = Arrays.copyOf(latencies, (int) Math.min(samples, LATENCY_SAMPLES));
+            Arrays.sort(sorted);
+            var index = (int) Math.ceil(percentile * sorted.length) - 1;
+            percentileNanos = sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.learnreactiveprogramming.resilience;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time a call spent waiting on local throttling, such as a {@link RateLimiter} token, rather than on the downstream
+ * service. An {@link AdaptiveConcurrencyLimiter} puts one into the Context of every call it admits and subtracts it
+ * from the latency it samples, so a throttled call does not read as a slow one.
+ */
+final class LocalWait {
+
+    private static final String CONTEXT_KEY = LocalWait.class.getName();
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    static void record(ContextView ctx, long waitNanos) {
+        ctx.<LocalWait>getOrEmpty(CONTEXT_KEY).ifPresent(wait -> wait.nanos.addAndGet(waitNanos));
+    }
+
+    Context putInto(Context ctx) {
+        return ctx.put(CONTEXT_KEY, this);
+    }
+
+    long nanos() {
+        return nanos.get();
+    }
+}
@@ -0,0 +1,193 @@
+package com.learnreactiveprogramming.resilience;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Admits at most {@code limit} calls at a time and parks the others until a permit frees up, in the order their
+ * {@link Waiters} policy chooses. The permit is a {@code usingWhen} resource, so it is returned when the call
+ * completes, fails or is cancelled, including a cancel that races with the permit being granted.
+ *
+ * @param <K> what the policy orders waiters by, e.g. their priority
+ */
+public final class PermitQueue<K> {
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int RELEASED = 2;
+
+    private final IntSupplier limit;
+    private final Waiters<K> waiters;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong granted = new AtomicLong();
+    private final AtomicInteger drainWip = new AtomicInteger();
+
+    public PermitQueue(IntSupplier limit, Waiters<K> waiters) {
+        this.limit = limit;
+        this.waiters = waiters;
+    }
+
+    /**
+     * Admits waiters in arrival order.
+     */
+    public static <K> Waiters<K> fifo() {
+        return new Fifo<>();
+    }
+
+    public <T> Mono<T> limit(K key, Function<Permit<K>, Mono<T>> call) {
+        return Mono.usingWhen(acquire(key), call, Permit::release, (permit, ex) -> permit.release(), Permit::release);
+    }
+
+    public <T> Flux<T> limitMany(K key, Function<Permit<K>, Flux<T>> call) {
+        return Flux.usingWhen(acquire(key), call, Permit::release, (permit, ex) -> permit.release(), Permit::release);
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Trampolined, so a permit released from within a granted call does not drain recursively. Call it when the
+     * limit grows, so waiters take the new permits right away.
+     */
+    public void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        var missed = 1;
+        for (;;) {
+            while (!waiters.isEmpty() && tryAcquire()) {
+                var permit = waiters.poll(granted.get() + 1);
+                if (permit == null || !permit.state.compareAndSet(WAITING, GRANTED)) {
+                    inFlight.decrementAndGet();
+                    continue;
+                }
+                granted.incrementAndGet();
+                permit.grantedAtNanos = System.nanoTime();
+                permit.sink.success(permit);
+            }
+            missed = drainWip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private Mono<Permit<K>> acquire(K key) {
+        return Mono.<Permit<K>>create(sink -> {
+                    var permit = new Permit<>(this, sink, key);
+                    sink.onCancel(permit::releaseNow);
+                    if (waiters.isEmpty() && tryAcquire()) {
+                        granted.incrementAndGet();
+                        permit.grant();
+                        return;
+                    }
+                    waiters.offer(permit);
+                    drain();
+                })
+                .doOnDiscard(Permit.class, Permit::releaseNow);
+    }
+
+    private boolean tryAcquire() {
+        for (;;) {
+            var current = inFlight.get();
+            if (current >= limit.getAsInt()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * The permits waiting for a slot. {@link #poll(long)} is only called once a slot is free, so it alone decides
+     * who goes next.
+     */
+    public interface Waiters<K> {
+
+        void offer(Permit<K> permit);
+
+        /**
+         * @param grant the 1-based number of the grant the returned waiter receives, for policies sharing slots
+         */
+        Permit<K> poll(long grant);
+
+        boolean remove(Permit<K> permit);
+
+        boolean isEmpty();
+    }
+
+    public static final class Permit<K> {
+        private final PermitQueue<K> owner;
+        private final MonoSink<Permit<K>> sink;
+        private final K key;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private volatile long grantedAtNanos;
+
+        private Permit(PermitQueue<K> owner, MonoSink<Permit<K>> sink, K key) {
+            this.owner = owner;
+            this.sink = sink;
+            this.key = key;
+        }
+
+        public K key() {
+            return key;
+        }
+
+        public long grantedAtNanos() {
+            return grantedAtNanos;
+        }
+
+        private void grant() {
+            state.set(GRANTED);
+            grantedAtNanos = System.nanoTime();
+            sink.success(this);
+        }
+
+        private Mono<Void> release() {
+            return Mono.fromRunnable(this::releaseNow);
+        }
+
+        private void releaseNow() {
+            if (state.compareAndSet(WAITING, RELEASED)) {
+                owner.waiters.remove(this);
+            } else if (state.compareAndSet(GRANTED, RELEASED)) {
+                owner.inFlight.decrementAndGet();
+                owner.drain();
+            }
+        }
+    }
+
+    private static final class Fifo<K> implements Waiters<K> {
+        private final Queue<Permit<K>> queue = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void offer(Permit<K> permit) {
+            queue.offer(permit);
+        }
+
+        @Override
+        public Permit<K> poll(long grant) {
+            return queue.poll();
+        }
+
+        @Override
+        public boolean remove(Permit<K> permit) {
+            return queue.remove(permit);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+    }
+}
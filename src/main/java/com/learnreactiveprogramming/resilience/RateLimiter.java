@@ -0,0 +1,112 @@
+package com.learnreactiveprogramming.resilience;
+
+import com.learnreactiveprogramming.exception.RateLimitExceededException;
+import com.learnreactiveprogramming.metrics.LatencyTimer;
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket holding up to {@code burst} permits, refilled at {@code permitsPerSecond}. A caller that finds the
+ * bucket empty reserves the next permit ahead of time and waits for it on a {@link Mono#delay} timer instead of
+ * parking a thread, so callers are released exactly at the allowed rate. A caller whose permit would be further
+ * away than {@code maxWait} fails fast with a {@link RateLimitExceededException} and reserves nothing. That is a
+ * local rejection rather than a downstream failure, so callers may retry it or degrade, unlike a
+ * {@link com.learnreactiveprogramming.exception.ServiceException}.
+ */
+@Slf4j
+public class RateLimiter {
+
+    private final String name;
+    private final double permitsPerNano;
+    private final int burst;
+    private final long maxWaitNanos;
+    private final LatencyTimer waitTimer;
+    private final LongAdder rejected = new LongAdder();
+
+    private double permits;
+    private long refilledAt;
+
+    public RateLimiter(String name, double permitsPerSecond, int burst, Duration maxWait) {
+        this.name = name;
+        this.permitsPerNano = permitsPerSecond / 1e9;
+        this.burst = burst;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = burst;
+        this.refilledAt = System.nanoTime();
+        this.waitTimer = MetricsRegistry.INSTANCE.latencyTimer("ratelimiter." + name + ".wait");
+        MetricsRegistry.INSTANCE.gauge("ratelimiter." + name + ".rejected", this, RateLimiter::getRejectedCount);
+    }
+
+    public <T> Mono<T> limit(Mono<T> source) {
+        return acquire().then(source);
+    }
+
+    public <T> Flux<T> limit(Flux<T> source) {
+        return acquire().thenMany(source);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized double getAvailablePermits() {
+        refill(System.nanoTime());
+        return permits;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private Mono<Void> acquire() {
+        return Mono.deferContextual(ctx -> {
+            var waitNanos = reserve(System.nanoTime());
+            if (waitNanos < 0) {
+                rejected.increment();
+                log.debug("Rate limit of {} exceeded", name);
+                return Mono.error(new RateLimitExceededException("Rate limit of " + name + " exceeded"));
+            }
+            waitTimer.record(waitNanos);
+            LocalWait.record(ctx, waitNanos);
+            if (waitNanos == 0) {
+                return Mono.empty();
+            }
+            return Mono.delay(Duration.ofNanos(waitNanos))
+                    .doOnCancel(this::cancelReservation)
+                    .then();
+        });
+    }
+
+    /**
+     * Takes a permit and returns how long to wait for it: 0 when one is available, the time until the next
+     * unreserved one otherwise (the balance goes negative), or -1 when that is beyond {@code maxWait}.
+     */
+    private synchronized long reserve(long now) {
+        refill(now);
+        if (permits >= 1) {
+            permits -= 1;
+            return 0;
+        }
+        var waitNanos = (long) Math.ceil((1 - permits) / permitsPerNano);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        permits -= 1;
+        return waitNanos;
+    }
+
+    private synchronized void cancelReservation() {
+        refill(System.nanoTime());
+        permits = Math.min(burst, permits + 1);
+    }
+
+    private void refill(long now) {
+        permits = Math.min(burst, permits + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,42 @@
+package com.learnreactiveprogramming.resilience;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into a single upstream subscription. The shared call is evicted
+ * as soon as it completes, fails or is cancelled, and it is only cancelled once every waiter has cancelled. It
+ * replays its value, so a caller that joins after the value was emitted but before the eviction still gets it.
+ * <p>
+ * The shared call runs with the Context of the caller that started it, e.g. its {@code Priority} and
+ * {@code Deadline}. A caller that joins an existing flight waits under those, not its own; key by them as well
+ * when that matters.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> share(k, call.get())));
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<V> share(K key, Mono<V> call) {
+        var shared = new AtomicReference<Mono<V>>();
+        var mono = call
+                .doFinally(signal -> inFlight.remove(key, shared.get()))
+                .flux()
+                .replay(1)
+                .refCount()
+                .singleOrEmpty();
+        shared.set(mono);
+        return mono;
+    }
+}
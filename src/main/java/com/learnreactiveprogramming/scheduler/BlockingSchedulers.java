@@ -0,0 +1,94 @@
+package com.learnreactiveprogramming.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Picks the {@link Scheduler} used to offload blocking calls. The {@value #BLOCKING_SCHEDULER_PROPERTY} system
+ * property selects {@code boundedElastic} (default) or {@code virtual}; the latter needs a JDK 21+ runtime and
+ * falls back to {@code boundedElastic} otherwise. The virtual-thread executor is looked up reflectively so the
+ * build can stay on Java 17, and probed once by running a task on it, since on Java 19 and 20 it exists but fails
+ * without {@code --enable-preview}.
+ */
+@Slf4j
+public final class BlockingSchedulers {
+
+    public static final String BLOCKING_SCHEDULER_PROPERTY = "reactor.blocking.scheduler";
+
+    public enum Type {
+        BOUNDED_ELASTIC, VIRTUAL
+    }
+
+    private static final AtomicBoolean FALLBACK_LOGGED = new AtomicBoolean();
+    private static Scheduler virtualThreadScheduler;
+
+    private BlockingSchedulers() {
+    }
+
+    public static Scheduler blocking() {
+        var type = configuredType();
+        if (type == Type.VIRTUAL && !isVirtualThreadsAvailable()) {
+            if (FALLBACK_LOGGED.compareAndSet(false, true)) {
+                log.warn("Virtual threads are not available on Java {}, using boundedElastic",
+                        System.getProperty("java.version"));
+            }
+            return Schedulers.boundedElastic();
+        }
+        return of(type);
+    }
+
+    public static Scheduler of(Type type) {
+        return switch (type) {
+            case BOUNDED_ELASTIC -> Schedulers.boundedElastic();
+            case VIRTUAL -> virtualThreads();
+        };
+    }
+
+    public static synchronized Scheduler virtualThreads() {
+        if (virtualThreadScheduler == null) {
+            if (!isVirtualThreadsAvailable()) {
+                throw new UnsupportedOperationException("Virtual threads require a Java 21+ runtime");
+            }
+            virtualThreadScheduler = Schedulers.fromExecutorService(VirtualThreads.EXECUTOR, "virtual");
+        }
+        return virtualThreadScheduler;
+    }
+
+    public static boolean isVirtualThreadsAvailable() {
+        return VirtualThreads.EXECUTOR != null;
+    }
+
+    private static Type configuredType() {
+        var value = System.getProperty(BLOCKING_SCHEDULER_PROPERTY, "boundedElastic");
+        return "virtual".equals(value.toLowerCase(Locale.ROOT)) ? Type.VIRTUAL : Type.BOUNDED_ELASTIC;
+    }
+
+    /**
+     * Probed on first use and cached, the executor is {@code null} when virtual threads cannot run.
+     */
+    private static final class VirtualThreads {
+        static final ExecutorService EXECUTOR = probe();
+
+        private static ExecutorService probe() {
+            try {
+                var executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+                executor.submit(() -> { }).get();
+                return executor;
+            } catch (ReflectiveOperationException | ExecutionException | RuntimeException ex) {
+                log.debug("Virtual threads are not available", ex);
+                return null;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+}
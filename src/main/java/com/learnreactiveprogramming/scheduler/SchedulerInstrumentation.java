@@ -0,0 +1,168 @@
+package com.learnreactiveprogramming.scheduler;
+
+import com.learnreactiveprogramming.metrics.LatencyTimer;
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.regex.Pattern;
+
+/**
+ * Makes reactor's schedulers observable through {@link MetricsRegistry#INSTANCE}:
+ * <ul>
+ *     <li>an executor service decorator registers {@code scheduler.<name>.activeThreads} and
+ *     {@code scheduler.<name>.queuedTasks} gauges for every executor a scheduler creates,</li>
+ *     <li>a schedule hook records {@code scheduler.<name>.queueWait} and {@code scheduler.<name>.execution}
+ *     latencies per task, keyed by the name of the thread that runs it; queue wait counts from when a delayed task
+ *     was due, not from when it was scheduled,</li>
+ *     <li>a task that runs longer than the blocking threshold on a non-blocking thread ({@code parallel},
+ *     {@code single}) is logged as a warning, since it stalls every pipeline sharing that thread.</li>
+ * </ul>
+ * Decorators only apply to executors created after {@link #install()}, so it must run at startup, before the
+ * first use of {@code Schedulers.parallel()} or {@code Schedulers.boundedElastic()}.
+ */
+@Slf4j
+public final class SchedulerInstrumentation {
+
+    public static final Duration DEFAULT_BLOCKING_THRESHOLD = Duration.ofMillis(100);
+
+    private static final String KEY = SchedulerInstrumentation.class.getName();
+    private static final Pattern QUOTED_NAME = Pattern.compile("\"([^\"]+)\"");
+    private static final Pattern THREAD_INDEX = Pattern.compile("-\\d+$");
+
+    private static final Map<String, Set<ThreadPoolExecutor>> EXECUTORS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<TimedTask> SCHEDULING = new ThreadLocal<>();
+    private static final ThreadLocal<TaskTimers> TASK_TIMERS = ThreadLocal.withInitial(() ->
+            TaskTimers.of(threadSchedulerName(Thread.currentThread().getName())));
+    private static volatile long blockingThresholdNanos = DEFAULT_BLOCKING_THRESHOLD.toNanos();
+
+    private SchedulerInstrumentation() {
+    }
+
+    public static void install() {
+        install(DEFAULT_BLOCKING_THRESHOLD);
+    }
+
+    public static void install(Duration blockingThreshold) {
+        blockingThresholdNanos = blockingThreshold.toNanos();
+        Schedulers.addExecutorServiceDecorator(KEY, SchedulerInstrumentation::register);
+        Schedulers.onScheduleHook(KEY, SchedulerInstrumentation::timed);
+    }
+
+    public static void uninstall() {
+        Schedulers.removeExecutorServiceDecorator(KEY);
+        Schedulers.resetOnScheduleHook(KEY);
+    }
+
+    private static ScheduledExecutorService register(Scheduler scheduler, ScheduledExecutorService executorService) {
+        if (executorService instanceof ThreadPoolExecutor executor) {
+            var name = schedulerName(scheduler);
+            EXECUTORS.computeIfAbsent(name, SchedulerInstrumentation::registerGauges).add(executor);
+        }
+        return new DelayAwareExecutorService(executorService);
+    }
+
+    private static Set<ThreadPoolExecutor> registerGauges(String name) {
+        Set<ThreadPoolExecutor> executors = ConcurrentHashMap.newKeySet();
+        MetricsRegistry.INSTANCE.gauge("scheduler." + name + ".activeThreads", () -> live(executors).stream()
+                .mapToInt(ThreadPoolExecutor::getActiveCount)
+                .sum());
+        MetricsRegistry.INSTANCE.gauge("scheduler." + name + ".queuedTasks", () -> live(executors).stream()
+                .mapToInt(executor -> executor.getQueue().size())
+                .sum());
+        return executors;
+    }
+
+    /**
+     * Drops executors that were shut down, e.g. idle {@code boundedElastic} workers that got evicted.
+     */
+    private static Set<ThreadPoolExecutor> live(Set<ThreadPoolExecutor> executors) {
+        executors.removeIf(ThreadPoolExecutor::isTerminated);
+        return executors;
+    }
+
+    private static Runnable timed(Runnable task) {
+        var timedTask = new TimedTask(task, System.nanoTime());
+        SCHEDULING.set(timedTask);
+        return timedTask;
+    }
+
+    /**
+     * Called by {@link DelayAwareExecutorService} right after the schedule hook wrapped the task it is submitting.
+     */
+    static void scheduled(long delayNanos) {
+        var task = SCHEDULING.get();
+        if (task != null) {
+            SCHEDULING.remove();
+            task.dueAt += delayNanos;
+        }
+    }
+
+    /**
+     * {@code parallel(8,"parallel")} and {@code boundedElastic("boundedElastic",maxThreads=80,...)} become
+     * {@code parallel} and {@code boundedElastic}, matching the thread name prefix.
+     */
+    static String schedulerName(Scheduler scheduler) {
+        var description = scheduler.toString();
+        var quoted = QUOTED_NAME.matcher(description);
+        if (quoted.find()) {
+            return quoted.group(1);
+        }
+        var parenthesis = description.indexOf('(');
+        return parenthesis > 0 ? description.substring(0, parenthesis) : description;
+    }
+
+    static String threadSchedulerName(String threadName) {
+        return THREAD_INDEX.matcher(threadName).replaceFirst("");
+    }
+
+    /**
+     * Records queue wait only for the first run, measured from when the task was due: periodic tasks run the same
+     * wrapper again every period, and their later runs have no meaningful schedule time to measure from. Tasks of
+     * schedulers that are not decorated, e.g. {@code Schedulers.fromExecutor}, are always due immediately.
+     */
+    private static final class TimedTask implements Runnable {
+        private final Runnable task;
+        private volatile long dueAt;
+        private volatile boolean ran;
+
+        private TimedTask(Runnable task, long dueAt) {
+            this.task = task;
+            this.dueAt = dueAt;
+        }
+
+        @Override
+        public void run() {
+            var startedAt = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                var executionNanos = System.nanoTime() - startedAt;
+                var timers = TASK_TIMERS.get();
+                if (!ran) {
+                    ran = true;
+                    timers.queueWait().record(Math.max(0, startedAt - dueAt));
+                }
+                timers.execution().record(executionNanos);
+                if (executionNanos > blockingThresholdNanos && Schedulers.isInNonBlockingThread()) {
+                    log.warn("Task ran for {} ms on non-blocking thread {}, move blocking work to boundedElastic",
+                            executionNanos / 1_000_000, Thread.currentThread().getName());
+                }
+            }
+        }
+    }
+
+    private record TaskTimers(LatencyTimer queueWait, LatencyTimer execution) {
+        static TaskTimers of(String schedulerName) {
+            return new TaskTimers(MetricsRegistry.INSTANCE.latencyTimer("scheduler." + schedulerName + ".queueWait"),
+                    MetricsRegistry.INSTANCE.latencyTimer("scheduler." + schedulerName + ".execution"));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.learnreactiveprogramming.service;
+
+import com.learnreactiveprogramming.cache.ReactiveCache;
+import com.learnreactiveprogramming.domain.MovieInfo;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public class CachingMovieInfoService extends MovieInfoService {
+
+    private final ReactiveCache<Long, MovieInfo> movieInfoCache;
+
+    public CachingMovieInfoService(WebClient webClient) {
+        this(webClient, ClientOptions.none());
+    }
+
+    public CachingMovieInfoService(WebClient webClient, ClientOptions options) {
+        this(webClient, options, new ReactiveCache<>("movieInfo", 10_000, Duration.ofMinutes(10), Duration.ofMinutes(5)));
+    }
+
+    public CachingMovieInfoService(WebClient webClient, ClientOptions options, ReactiveCache<Long, MovieInfo> movieInfoCache) {
+        super(webClient, options);
+        this.movieInfoCache = movieInfoCache;
+    }
+
+    @Override
+    public Mono<MovieInfo> retrieveAllMovieInfoByIdRestClient(Long movieInfoId) {
+        return movieInfoCache.get(movieInfoId, super::retrieveAllMovieInfoByIdRestClient);
+    }
+
+    public ReactiveCache<Long, MovieInfo> getMovieInfoCache() {
+        return movieInfoCache;
+    }
+}
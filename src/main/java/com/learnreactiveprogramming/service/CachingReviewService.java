@@ -0,0 +1,38 @@
+package com.learnreactiveprogramming.service;
+
+import com.learnreactiveprogramming.cache.ReactiveCache;
+import com.learnreactiveprogramming.domain.Review;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+public class CachingReviewService extends ReviewService {
+
+    private final ReactiveCache<Long, List<Review>> reviewsCache;
+
+    public CachingReviewService(WebClient webClient) {
+        this(webClient, ClientOptions.none());
+    }
+
+    public CachingReviewService(WebClient webClient, ClientOptions options) {
+        this(webClient, options, new ReactiveCache<>("reviews", 10_000, Duration.ofMinutes(1), Duration.ofMinutes(5)));
+    }
+
+    public CachingReviewService(WebClient webClient, ClientOptions options,
+                                ReactiveCache<Long, List<Review>> reviewsCache) {
+        super(webClient, options);
+        this.reviewsCache = reviewsCache;
+    }
+
+    @Override
+    public Flux<Review> retrieveReviewsFluxRestClient(Long movieInfoId) {
+        return reviewsCache.get(movieInfoId, id -> super.retrieveReviewsFluxRestClient(id).collectList())
+                .flatMapIterable(reviews -> reviews);
+    }
+
+    public ReactiveCache<Long, List<Review>> getReviewsCache() {
+        return reviewsCache;
+    }
+}
@@ -0,0 +1,25 @@
+package com.learnreactiveprogramming.service;
+
+import com.learnreactiveprogramming.priority.PriorityGate;
+import com.learnreactiveprogramming.resilience.HedgingPolicy;
+import com.learnreactiveprogramming.resilience.RateLimiter;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Optional collaborators of the WebClient backed services; any left unset is skipped. A call goes through the rate
+ * limiter first, then the priority gate, then the circuit breaker, so a call the rate limiter rejects never counts
+ * as a downstream failure and a call waiting for a rate limit permit does not hold a gate slot. The hedging policy
+ * only applies to single movie info lookups.
+ */
+@Getter
+@Builder
+public class ClientOptions {
+    private final HedgingPolicy hedgingPolicy;
+    private final RateLimiter rateLimiter;
+    private final PriorityGate priorityGate;
+
+    public static ClientOptions none() {
+        return ClientOptions.builder().build();
+    }
+}
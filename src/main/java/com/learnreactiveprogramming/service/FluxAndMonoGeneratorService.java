@@ -1,6 +1,8 @@
 package com.learnreactiveprogramming.service;
 
 import com.learnreactiveprogramming.exception.ReactorException;
+import com.learnreactiveprogramming.logging.SignalLogging;
+import com.learnreactiveprogramming.util.CodePoints;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
@@ -37,11 +39,11 @@ public class FluxAndMonoGeneratorService {
     }
 
     public Flux<String> namesFlux() {
-        return Flux.fromIterable(namesList).log();
+        return Flux.fromIterable(namesList).tap(SignalLogging.logged("generator.namesFlux"));
     }
 
     public Mono<String> nameMono() {
-        return Mono.just("alex").log();
+        return Mono.just("alex").tap(SignalLogging.logged("generator.nameMono"));
     }
 
     public Flux<String> namesFluxMap(int stringLength) {
@@ -53,11 +55,11 @@ public class FluxAndMonoGeneratorService {
                 .doOnSubscribe(s -> log.info("Subscription is: {}", s))
                 .doOnComplete(() -> log.info("Inside the complete callback"))
                 .doFinally(signal -> log.info("The signal is: {}", signal))
-                .log();
+                .tap(SignalLogging.logged("generator.namesFluxMap"));
     }
 
     public Flux<String> namesFluxInmutability() {
-        var namesFlux = Flux.fromIterable(namesList).log();
+        var namesFlux = Flux.fromIterable(namesList).tap(SignalLogging.logged("generator.namesFluxInmutability"));
         namesFlux().map(String::toUpperCase);
         return namesFlux;
     }
@@ -67,7 +69,7 @@ public class FluxAndMonoGeneratorService {
                 .map(String::toUpperCase)
                 .filter(s -> s.length() > stringLength)
                 .flatMap(this::splitString)
-                .log();
+                .tap(SignalLogging.logged("generator.namesFluxFlatMap"));
     }
 
     public Flux<String> namesFluxFlatMapAsync(int stringLength) {
@@ -75,7 +77,7 @@ public class FluxAndMonoGeneratorService {
                 .map(String::toUpperCase)
                 .filter(s -> s.length() > stringLength)
                 .flatMap(this::splitStringWithDelay)
-                .log();
+                .tap(SignalLogging.logged("generator.namesFluxFlatMapAsync"));
     }
 
     public Flux<String> namesFluxFlatConcatMap(int stringLength) {
@@ -83,7 +85,7 @@ public class FluxAndMonoGeneratorService {
                 .map(String::toUpperCase)
                 .filter(s -> s.length() > stringLength)
                 .concatMap(this::splitStringWithDelay)
-                .log();
+                .tap(SignalLogging.logged("generator.namesFluxFlatConcatMap"));
     }
 
     public Mono<List<String>> namesMonoFlatMap(int stringLength) {
@@ -91,7 +93,7 @@ public class FluxAndMonoGeneratorService {
                 .map(String::toUpperCase)
                 .filter(s -> s.length() > stringLength)
                 .flatMap(this::splitStringMono)
-                .log();
+                .tap(SignalLogging.logged("generator.namesMonoFlatMap"));
     }
 
     public Flux<String> namesMonoFlatMapMany(int stringLength) {
@@ -99,7 +101,7 @@ public class FluxAndMonoGeneratorService {
                 .map(String::toUpperCase)
                 .filter(s -> s.length() > stringLength)
                 .flatMapMany(this::splitString)
-                .log();
+                .tap(SignalLogging.logged("generator.namesMonoFlatMapMany"));
     }
 
     public Flux<String> namesFluxTransform(int stringLength) {
@@ -110,7 +112,7 @@ public class FluxAndMonoGeneratorService {
                 .transform(filterMap)
                 .flatMap(this::splitString)
                 .defaultIfEmpty("default")
-                .log();
+                .tap(SignalLogging.logged("generator.namesFluxTransform"));
     }
 
     public Flux<String> namesFluxTransformSwitchIfEmpty(int stringLength) {
@@ -124,44 +126,41 @@ public class FluxAndMonoGeneratorService {
         return Flux.fromIterable(namesList)
                 .transform(filterMap)
                 .switchIfEmpty(defaultFlux)
-                .log();
+                .tap(SignalLogging.logged("generator.namesFluxTransformSwitchIfEmpty"));
     }
 
     public Flux<String> splitString(String name) {
-        var charArray = name.split("");
-        return Flux.fromArray(charArray);
+        return CodePoints.flux(name);
     }
 
     public Mono<List<String>> splitStringMono(String name) {
-        var charArray = name.split("");
-        return Mono.just(List.of(charArray));
+        return Mono.just(CodePoints.list(name));
     }
 
     public Flux<String> splitStringWithDelay(String name) {
-        var charArray = name.split("");
         var delay = RANDOM.nextInt(1000);
-        return Flux.fromArray(charArray).delayElements(Duration.ofMillis(delay));
+        return CodePoints.flux(name).delayElements(Duration.ofMillis(delay));
     }
 
     public Flux<String> exploreConcat() {
         var abcFlux = Flux.just("A", "B", "C");
         var defFlux = Flux.just("D", "E", "F");
 
-        return Flux.concat(abcFlux, defFlux).log();
+        return Flux.concat(abcFlux, defFlux).tap(SignalLogging.logged("generator.exploreConcat"));
     }
 
     public Flux<String> exploreConcatWith() {
         var abcFlux = Flux.just("A", "B", "C");
         var defFlux = Flux.just("D", "E", "F");
 
-        return abcFlux.concatWith(defFlux).log();
+        return abcFlux.concatWith(defFlux).tap(SignalLogging.logged("generator.exploreConcatWith"));
     }
 
     public Flux<String> exploreConcatWithMono() {
         var aMono = Mono.just("A");
         var bMono = Mono.just("B");
 
-        return aMono.concatWith(bMono).log();
+        return aMono.concatWith(bMono).tap(SignalLogging.logged("generator.exploreConcatWithMono"));
     }
 
     public Flux<String> exploreMerge() {
@@ -170,7 +169,7 @@ public class FluxAndMonoGeneratorService {
         var defFlux = Flux.just("D", "E", "F")
                 .delayElements(Duration.ofMillis(150));
 
-        return Flux.merge(abcFlux, defFlux).log();
+        return Flux.merge(abcFlux, defFlux).tap(SignalLogging.logged("generator.exploreMerge"));
     }
 
     public Flux<String> exploreMergeWith() {
@@ -195,14 +194,15 @@ public class FluxAndMonoGeneratorService {
         var defFlux = Flux.just("D", "E", "F")
                 .delayElements(Duration.ofMillis(150));
 
-        return Flux.mergeSequential(abcFlux, defFlux).log();
+        return Flux.mergeSequential(abcFlux, defFlux).tap(SignalLogging.logged("generator.exploreMergeSequential"));
     }
 
     public Flux<String> exploreZip() {
         var abcFlux = Flux.just("A", "B", "C");
         var defFlux = Flux.just("D", "E", "F");
 
-        return Flux.zip(abcFlux, defFlux, (first, second) -> first + second).log();
+        return Flux.zip(abcFlux, defFlux, (first, second) -> first + second)
+                .tap(SignalLogging.logged("generator.exploreZip"));
     }
 
     public Flux<String> exploreZip2() {
@@ -213,14 +213,15 @@ public class FluxAndMonoGeneratorService {
 
         return Flux.zip(abcFlux, defFlux, oneTwoThree, fourFiveSix)
                 .map(t4 -> t4.getT1() + t4.getT2() + t4.getT3() + t4.getT4())
-                .log();
+                .tap(SignalLogging.logged("generator.exploreZip2"));
     }
 
     public Flux<String> exploreZipWith() {
         var abcFlux = Flux.just("A", "B", "C");
         var defFlux = Flux.just("D", "E", "F");
 
-        return abcFlux.zipWith(defFlux, (first, second) -> first + second).log();
+        return abcFlux.zipWith(defFlux, (first, second) -> first + second)
+                .tap(SignalLogging.logged("generator.exploreZipWith"));
     }
 
     public Mono<String> exploreZipWithMono() {
@@ -229,13 +230,13 @@ public class FluxAndMonoGeneratorService {
 
         return abcMono.zipWith(defMono)
                 .map(t2 -> t2.getT1() + t2.getT2())
-                .log();
+                .tap(SignalLogging.logged("generator.exploreZipWithMono"));
     }
 
     public Flux<String> exceptionFlux() {
         return Flux.just("A", "B", "C")
                 .concatWith(Flux.error(new RuntimeException("Exception ocurred")))
-                .concatWith(Flux.just("D")).log();
+                .concatWith(Flux.just("D")).tap(SignalLogging.logged("generator.exceptionFlux"));
     }
 
     public Flux<String> exploreOnErrorReturn() {
@@ -1,5 +1,7 @@
 package com.learnreactiveprogramming.service;
 
+import com.learnreactiveprogramming.logging.SignalLogging;
+import com.learnreactiveprogramming.scheduler.BlockingSchedulers;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -18,38 +20,38 @@ public class FluxAndMonoSchedulersService {
 
     public Flux<String> explorePublishOn() {
         var namesFlux = Flux.fromIterable(namesList)
-                .publishOn(Schedulers.boundedElastic())
+                .publishOn(BlockingSchedulers.blocking())
                 .map(this::upperCase)
                 .map(s -> {
                     log.info("Name is: {}", s);
                     return s;
                 })
-                .log();
+                .tap(SignalLogging.logged("schedulers.explorePublishOn.1"));
 
         var namesFlux1 = Flux.fromIterable(namesList1)
-                .publishOn(Schedulers.boundedElastic())
+                .publishOn(BlockingSchedulers.blocking())
                 .map(this::upperCase)
                 .map(s -> {
                     log.info("Name is: {}", s);
                     return s;
                 })
-                .log();
+                .tap(SignalLogging.logged("schedulers.explorePublishOn.2"));
 
         return namesFlux.mergeWith(namesFlux1);
     }
 
     public Flux<String> exploreSuscribeOn() {
         var namesFlux = flux1(namesList)
-                .subscribeOn(Schedulers.boundedElastic())
-                .log();
+                .subscribeOn(BlockingSchedulers.blocking())
+                .tap(SignalLogging.logged("schedulers.exploreSuscribeOn.1"));
 
         var namesFlux1 = flux1(namesList1)
-                .subscribeOn(Schedulers.boundedElastic())
+                .subscribeOn(BlockingSchedulers.blocking())
                 .map(s -> {
                     log.info("Name is: {}", s);
                     return s;
                 })
-                .log();
+                .tap(SignalLogging.logged("schedulers.exploreSuscribeOn.2"));
 
         return namesFlux.mergeWith(namesFlux1);
     }
@@ -67,7 +69,7 @@ public class FluxAndMonoSchedulersService {
                 .flatMap(name -> Mono.just(name)
                         .map(this::upperCase)
                         .subscribeOn(Schedulers.parallel()))
-                .log();
+                .tap(SignalLogging.logged("schedulers.exploreParallelUsingFlatmap"));
     }
 
     public Flux<String> exploreParallelUsingFlatmapSequential() {
@@ -75,7 +77,7 @@ public class FluxAndMonoSchedulersService {
                 .flatMapSequential(name -> Mono.just(name)
                         .map(this::upperCase)
                         .subscribeOn(Schedulers.parallel()))
-                .log();
+                .tap(SignalLogging.logged("schedulers.exploreParallelUsingFlatmapSequential"));
     }
 
     public Flux<String> exploreParallelUsingFlatmap1() {
@@ -83,13 +85,13 @@ public class FluxAndMonoSchedulersService {
                 .flatMap(name -> Mono.just(name)
                         .map(this::upperCase)
                         .subscribeOn(Schedulers.parallel()))
-                .log();
+                .tap(SignalLogging.logged("schedulers.exploreParallelUsingFlatmap1.1"));
 
         var namesFlux1 = Flux.fromIterable(namesList1)
                 .flatMap(name -> Mono.just(name)
                         .map(this::upperCase)
                         .subscribeOn(Schedulers.parallel()))
-                .log();
+                .tap(SignalLogging.logged("schedulers.exploreParallelUsingFlatmap1.2"));
 
         return namesFlux.mergeWith(namesFlux1);
     }
@@ -1,13 +1,21 @@
 package com.learnreactiveprogramming.service;
 
+import com.learnreactiveprogramming.client.StreamingDecoding;
 import com.learnreactiveprogramming.domain.MovieInfo;
+import com.learnreactiveprogramming.priority.PriorityGate;
+import com.learnreactiveprogramming.resilience.CircuitBreaker;
+import com.learnreactiveprogramming.resilience.HedgingPolicy;
+import com.learnreactiveprogramming.resilience.RateLimiter;
 import lombok.NoArgsConstructor;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.learnreactiveprogramming.util.CommonUtil.delay;
 
@@ -15,23 +23,79 @@ import static com.learnreactiveprogramming.util.CommonUtil.delay;
 public class MovieInfoService {
 
     private WebClient webClient;
+    private HedgingPolicy hedgingPolicy;
+    private RateLimiter rateLimiter;
+    private PriorityGate priorityGate;
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("movieInfo");
 
     public MovieInfoService(WebClient webClient) {
+        this(webClient, ClientOptions.none());
+    }
+
+    public MovieInfoService(WebClient webClient, ClientOptions options) {
         this.webClient = webClient;
+        this.hedgingPolicy = options.getHedgingPolicy();
+        this.rateLimiter = options.getRateLimiter();
+        this.priorityGate = options.getPriorityGate();
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
     }
 
     public Flux<MovieInfo> retrieveAllMovieInfoRestClient() {
-       return webClient.get().uri("/v1/movie_infos")
+       return rateLimited(gated(circuitBreaker.protect(webClient.get().uri("/v1/movie_infos")
+                .accept(StreamingDecoding.STREAMING_MEDIA_TYPES)
                 .retrieve()
-                .bodyToFlux(MovieInfo.class);
+                .bodyToFlux(MovieInfo.class)
+                .limitRate(StreamingDecoding.DEFAULT_PREFETCH))));
     }
 
     public Mono<MovieInfo> retrieveAllMovieInfoByIdRestClient(Long movieInfoId) {
+        if (hedgingPolicy != null) {
+            return rateLimited(gated(circuitBreaker.protect(hedgingPolicy.hedge(() -> retrieveMovieInfoById(movieInfoId)))));
+        }
+        return rateLimited(gated(circuitBreaker.protect(retrieveMovieInfoById(movieInfoId))));
+    }
+
+    private Mono<MovieInfo> retrieveMovieInfoById(Long movieInfoId) {
         return webClient.get().uri("/v1/movie_infos/{id}", movieInfoId)
                 .retrieve()
                 .bodyToMono(MovieInfo.class);
     }
 
+    public Flux<MovieInfo> retrieveMovieInfosByIdsRestClient(Collection<Long> movieInfoIds) {
+
+        var uri = UriComponentsBuilder.fromUriString("/v1/movie_infos")
+                .queryParam("movieInfoId", movieInfoIds.stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")))
+                .buildAndExpand()
+                .toUriString();
+
+        return rateLimited(gated(circuitBreaker.protect(webClient.get().uri(uri)
+                .accept(StreamingDecoding.STREAMING_MEDIA_TYPES)
+                .retrieve()
+                .bodyToFlux(MovieInfo.class)
+                .limitRate(StreamingDecoding.DEFAULT_PREFETCH))));
+    }
+
+    private <T> Mono<T> rateLimited(Mono<T> source) {
+        return rateLimiter != null ? rateLimiter.limit(source) : source;
+    }
+
+    private <T> Flux<T> rateLimited(Flux<T> source) {
+        return rateLimiter != null ? rateLimiter.limit(source) : source;
+    }
+
+    private <T> Mono<T> gated(Mono<T> source) {
+        return priorityGate != null ? priorityGate.limit(source) : source;
+    }
+
+    private <T> Flux<T> gated(Flux<T> source) {
+        return priorityGate != null ? priorityGate.limit(source) : source;
+    }
+
     public  Flux<MovieInfo> retrieveMoviesFlux(){
 
         var movieInfoList = List.of(new MovieInfo(100l, "Batman Begins", 2005, List.of("Christian Bale", "Michael Cane"), LocalDate.parse("2005-06-15")),
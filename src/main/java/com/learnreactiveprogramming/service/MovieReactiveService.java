@@ -1,63 +1,183 @@
 package com.learnreactiveprogramming.service;
 
 import com.learnreactiveprogramming.domain.Movie;
+import com.learnreactiveprogramming.domain.MovieInfo;
 import com.learnreactiveprogramming.domain.Revenue;
 import com.learnreactiveprogramming.domain.Review;
 import com.learnreactiveprogramming.exception.MovieException;
 import com.learnreactiveprogramming.exception.NetworkException;
+import com.learnreactiveprogramming.exception.RateLimitExceededException;
 import com.learnreactiveprogramming.exception.ServiceException;
+import com.learnreactiveprogramming.jfr.MovieStageEvents;
+import com.learnreactiveprogramming.logging.SignalLogging;
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import com.learnreactiveprogramming.metrics.PipelineMetrics;
+import com.learnreactiveprogramming.priority.Priority;
+import com.learnreactiveprogramming.resilience.AdaptiveConcurrencyLimiter;
+import com.learnreactiveprogramming.resilience.Deadline;
+import com.learnreactiveprogramming.resilience.SingleFlight;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 import reactor.util.retry.RetryBackoffSpec;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 public class MovieReactiveService {
 
+    private static final int MOVIE_BATCH_SIZE = 100;
+    private static final int MOVIE_BATCH_CONCURRENCY = 4;
+    private static final int REVIEW_RETRY_ATTEMPTS = 3;
+    private static final Duration REVIEW_RETRY_BACKOFF = Duration.ofMillis(100);
+    private static final double OPTIONAL_DEPENDENCY_DEADLINE_SHARE = 0.8;
+    private static final int SHARED_CATALOG_REPLAY_SIZE = 10_000;
+    private static final Duration SHARED_CATALOG_GRACE_PERIOD = Duration.ofSeconds(5);
+
     private MovieInfoService movieInfoService;
     private ReviewService reviewService;
     private RevenueService revenueService;
 
+    private final AdaptiveConcurrencyLimiter reviewLimiter = new AdaptiveConcurrencyLimiter("reviews",
+            16, 1, 256, 0.9, Duration.ofMillis(500));
+    private final SingleFlight<Long, Movie> movieByIdFlights = new SingleFlight<>();
+    private final SingleFlight<Long, Movie> movieByIdRestClientFlights = new SingleFlight<>();
+    private Flux<Movie> sharedCatalog;
+    private int sharedCatalogReplaySize = SHARED_CATALOG_REPLAY_SIZE;
+    private Duration sharedCatalogGracePeriod = SHARED_CATALOG_GRACE_PERIOD;
+    private final MovieUpdateFeed movieUpdateFeed = new MovieUpdateFeed("movies.updates");
+
     public MovieReactiveService(MovieInfoService movieInfoService, ReviewService reviewService, RevenueService revenueService) {
         this.movieInfoService = movieInfoService;
         this.reviewService = reviewService;
         this.revenueService = revenueService;
+        MetricsRegistry.INSTANCE.gauge("movies.reviews.concurrencyLimit", reviewLimiter, AdaptiveConcurrencyLimiter::getLimit);
+        MetricsRegistry.INSTANCE.gauge("movies.reviews.inFlight", reviewLimiter, AdaptiveConcurrencyLimiter::getInFlight);
+    }
+
+    public int getReviewConcurrencyLimit() {
+        return reviewLimiter.getLimit();
     }
 
     public Flux<Movie> getAllMovies() {
-        var moviesInfo = movieInfoService.retrieveMoviesFlux();
+        var moviesInfo = movieInfoService.retrieveMoviesFlux()
+                .name("movies.downstream.movieInfos")
+                .tap(PipelineMetrics.timed());
         return moviesInfo
                 .flatMap(movieInfo -> {
-                    Mono<List<Review>> reviews = reviewService.retrieveReviewsFlux(movieInfo.getMovieInfoId()).collectList();
-                    return reviews.map(reviewsList -> new Movie(movieInfo, reviewsList));
-                })
+                    Mono<List<Review>> reviews = reviewService.retrieveReviewsFlux(movieInfo.getMovieInfoId())
+                            .collectList()
+                            .name("movies.downstream.reviews")
+                            .tap(PipelineMetrics.timed());
+                    return movie(movieInfo, reviews);
+                }, reviewLimiter.getMaxLimit())
                 .onErrorMap(ex -> {
                             log.error("Exception is: ", ex);
                             throw new MovieException(ex.getMessage());
                         }
                 )
-                .log();
+                .contextWrite(Priority.BULK.asDefault())
+                .name("movies.getAllMovies")
+                .tap(PipelineMetrics.timed())
+                .tap(SignalLogging.logged("movies.getAllMovies"));
     }
 
+    /**
+     * A review call rejected by the local rate limiter marks that movie's reviews as unavailable instead of failing
+     * the whole catalog.
+     */
     public Flux<Movie> getAllMoviesRestClient() {
-        var moviesInfo = movieInfoService.retrieveAllMovieInfoRestClient();
+        var moviesInfo = movieInfoService.retrieveAllMovieInfoRestClient()
+                .name("movies.downstream.movieInfosRestClient")
+                .tap(PipelineMetrics.timed());
         return moviesInfo
                 .flatMap(movieInfo -> {
-                    Mono<List<Review>> reviews = reviewService.retrieveReviewsFluxRestClient(movieInfo.getMovieInfoId()).collectList();
-                    return reviews.map(reviewsList -> new Movie(movieInfo, reviewsList));
-                })
+                    Mono<List<Review>> reviews = reviewService.retrieveReviewsFluxRestClient(movieInfo.getMovieInfoId())
+                            .collectList()
+                            .name("movies.downstream.reviewsRestClient")
+                            .tap(PipelineMetrics.timed());
+                    return movie(movieInfo, reviews)
+                            .onErrorResume(RateLimitExceededException.class, ex -> {
+                                log.warn("Reviews throttled for movie {}", movieInfo.getMovieInfoId());
+                                return Mono.just(withUnavailableReviews(movieInfo));
+                            });
+                }, reviewLimiter.getMaxLimit())
                 .onErrorMap(ex -> {
                             log.error("Exception is: ", ex);
                             throw new MovieException(ex.getMessage());
                         }
                 )
-                .log();
+                .contextWrite(Priority.BULK.asDefault())
+                .name("movies.getAllMoviesRestClient")
+                .tap(PipelineMetrics.timed())
+                .tap(SignalLogging.logged("movies.getAllMoviesRestClient"));
+    }
+
+    /**
+     * One multicast {@link #getAllMoviesRestClient()} aggregation for every concurrent subscriber. Subscribers
+     * that arrive mid-stream get the movies emitted so far replayed (up to the replay size) before the live ones,
+     * and the upstream stays connected for the grace period after the last subscriber cancels, so polling clients
+     * do not restart the aggregation on every poll. A run is dropped once it completes, fails or is cancelled: the
+     * next subscriber starts a new aggregation instead of getting a stale catalog replayed, and finished runs keep
+     * no movies in memory.
+     */
+    public Flux<Movie> getAllMoviesShared() {
+        return Flux.defer(this::sharedCatalog);
+    }
+
+    public synchronized void configureSharedCatalog(int replaySize, Duration gracePeriod) {
+        sharedCatalogReplaySize = replaySize;
+        sharedCatalogGracePeriod = gracePeriod;
+        sharedCatalog = null;
+    }
+
+    private synchronized Flux<Movie> sharedCatalog() {
+        if (sharedCatalog == null) {
+            var catalog = new AtomicReference<Flux<Movie>>();
+            catalog.set(Flux.defer(this::getAllMoviesRestClient)
+                    .doOnTerminate(() -> dropSharedCatalog(catalog.get()))
+                    .doOnCancel(() -> dropSharedCatalog(catalog.get()))
+                    .replay(sharedCatalogReplaySize)
+                    .refCount(1, sharedCatalogGracePeriod));
+            sharedCatalog = catalog.get();
+        }
+        return sharedCatalog;
+    }
+
+    private synchronized void dropSharedCatalog(Flux<Movie> catalog) {
+        if (sharedCatalog == catalog) {
+            sharedCatalog = null;
+        }
+    }
+
+    public void publishMovieUpdate(Movie movie) {
+        movieUpdateFeed.publish(movie);
+    }
+
+    public Flux<Movie> getMovieUpdates(String subscriberId) {
+        return movieUpdateFeed.updates(subscriberId);
+    }
+
+    /**
+     * Live movie updates for one subscriber, which picks how its own overflow is handled; see
+     * {@link MovieUpdateFeed}.
+     */
+    public Flux<Movie> getMovieUpdates(String subscriberId, FluxSink.OverflowStrategy overflowStrategy, int bufferSize) {
+        return movieUpdateFeed.updates(subscriberId, overflowStrategy, bufferSize);
+    }
+
+    public MovieUpdateFeed getMovieUpdateFeed() {
+        return movieUpdateFeed;
     }
 
     public Flux<Movie> getAllMoviesRetry() {
@@ -65,15 +185,18 @@ public class MovieReactiveService {
         return moviesInfo
                 .flatMap(movieInfo -> {
                     Mono<List<Review>> reviews = reviewService.retrieveReviewsFlux(movieInfo.getMovieInfoId()).collectList();
-                    return reviews.map(reviewsList -> new Movie(movieInfo, reviewsList));
-                })
+                    return movie(movieInfo, reviews);
+                }, reviewLimiter.getMaxLimit())
                 .onErrorMap(ex -> {
                             log.error("Exception is: ", ex);
                             throw new MovieException(ex.getMessage());
                         }
                 )
                 .retry(3)
-                .log();
+                .contextWrite(Priority.BULK.asDefault())
+                .name("movies.getAllMoviesRetry")
+                .tap(PipelineMetrics.timed())
+                .tap(SignalLogging.logged("movies.getAllMoviesRetry"));
     }
 
     public Flux<Movie> getAllMoviesRetryWhen() {
@@ -81,8 +204,8 @@ public class MovieReactiveService {
         return moviesInfo
                 .flatMap(movieInfo -> {
                     Mono<List<Review>> reviews = reviewService.retrieveReviewsFlux(movieInfo.getMovieInfoId()).collectList();
-                    return reviews.map(reviewsList -> new Movie(movieInfo, reviewsList));
-                })
+                    return movie(movieInfo, reviews);
+                }, reviewLimiter.getMaxLimit())
                 .onErrorMap(ex -> {
                             log.error("Exception is: ", ex);
                             if (ex instanceof NetworkException) {
@@ -93,7 +216,47 @@ public class MovieReactiveService {
                         }
                 )
                 .retryWhen(getRetryBackoffSpec())
-                .log();
+                .contextWrite(Priority.BULK.asDefault())
+                .name("movies.getAllMoviesRetryWhen")
+                .tap(PipelineMetrics.timed())
+                .tap(SignalLogging.logged("movies.getAllMoviesRetryWhen"));
+    }
+
+    public Flux<Movie> getAllMoviesRetryPerMovie() {
+        return getAllMoviesRetryPerMovie(true);
+    }
+
+    /**
+     * Retries each movie's review lookup on its own with backoff instead of resubscribing the whole catalog.
+     * Once the retries are exhausted the movie is emitted with an empty review list marked as unavailable, or the
+     * stream fails when {@code degradeOnExhaustion} is false.
+     */
+    public Flux<Movie> getAllMoviesRetryPerMovie(boolean degradeOnExhaustion) {
+        var moviesInfo = movieInfoService.retrieveMoviesFlux();
+        return moviesInfo
+                .flatMap(movieInfo -> {
+                    Mono<List<Review>> reviews = Mono.defer(() -> reviewLimiter.limit(
+                                    reviewService.retrieveReviewsFlux(movieInfo.getMovieInfoId())
+                                            .collectList()
+                                            .transform(MovieStageEvents.reviewFetch(movieInfo.getMovieInfoId()))))
+                            .retryWhen(getReviewRetrySpec(movieInfo.getMovieInfoId()));
+                    return reviews
+                            .map(reviewsList -> new Movie(movieInfo, reviewsList))
+                            .onErrorResume(ex -> degradeOnExhaustion, ex -> {
+                                log.warn("Reviews unavailable for movie {}", movieInfo.getMovieInfoId(), ex);
+                                return Mono.just(withUnavailableReviews(movieInfo));
+                            })
+                            .transform(MovieStageEvents.assembly(movieInfo.getMovieInfoId()));
+                }, reviewLimiter.getMaxLimit())
+                .onErrorMap(ex -> {
+                            log.error("Exception is: ", ex);
+                            throw new MovieException(ex.getMessage());
+                        }
+                )
+                .contextWrite(Priority.BULK.asDefault())
+                .name("movies.getAllMoviesRetryPerMovie")
+                .tap(PipelineMetrics.timed())
+                .tap(SignalLogging.logged("movies.getAllMoviesRetryPerMovie"));
     }
 
     public Flux<Movie> getAllMoviesRepeat() {
@@ -101,8 +264,8 @@ public class MovieReactiveService {
         return moviesInfo
                 .flatMap(movieInfo -> {
                     Mono<List<Review>> reviews = reviewService.retrieveReviewsFlux(movieInfo.getMovieInfoId()).collectList();
-                    return reviews.map(reviewsList -> new Movie(movieInfo, reviewsList));
-                })
+                    return movie(movieInfo, reviews);
+                }, reviewLimiter.getMaxLimit())
                 .onErrorMap(ex -> {
                             log.error("Exception is: ", ex);
                             if (ex instanceof NetworkException) {
@@ -113,7 +276,10 @@ public class MovieReactiveService {
                         }
                 )
                 .repeat()
-                .log();
+                .contextWrite(Priority.BULK.asDefault())
+                .name("movies.getAllMoviesRepeat")
+                .tap(PipelineMetrics.timed())
+                .tap(SignalLogging.logged("movies.getAllMoviesRepeat"));
     }
 
     public Flux<Movie> getAllMoviesRepeatN(long n) {
@@ -121,8 +287,8 @@ public class MovieReactiveService {
         return moviesInfo
                 .flatMap(movieInfo -> {
                     Mono<List<Review>> reviews = reviewService.retrieveReviewsFlux(movieInfo.getMovieInfoId()).collectList();
-                    return reviews.map(reviewsList -> new Movie(movieInfo, reviewsList));
-                })
+                    return movie(movieInfo, reviews);
+                }, reviewLimiter.getMaxLimit())
                 .onErrorMap(ex -> {
                             log.error("Exception is: ", ex);
                             if (ex instanceof NetworkException) {
@@ -133,47 +299,203 @@ public class MovieReactiveService {
                         }
                 )
                 .repeat(n)
-                .log();
+                .contextWrite(Priority.BULK.asDefault())
+                .name("movies.getAllMoviesRepeatN")
+                .tap(PipelineMetrics.timed())
+                .tap(SignalLogging.logged("movies.getAllMoviesRepeatN"));
     }
 
     private RetryBackoffSpec getRetryBackoffSpec() {
         return Retry.backoff(3, Duration.ofMillis(500))
                 .filter(MovieException.class::isInstance)
+                .doBeforeRetry(retrySignal -> MovieStageEvents.retryAttempt(0, "catalog", retrySignal))
                 .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> {
                     throw Exceptions.propagate(retrySignal.failure());
                 });
     }
 
+    private RetryBackoffSpec getReviewRetrySpec(long movieId) {
+        return Retry.backoff(REVIEW_RETRY_ATTEMPTS, REVIEW_RETRY_BACKOFF)
+                .filter(ex -> !(ex instanceof ServiceException))
+                .doBeforeRetry(retrySignal -> MovieStageEvents.retryAttempt(movieId, "reviews", retrySignal))
+                .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> {
+                    throw Exceptions.propagate(retrySignal.failure());
+                });
+    }
+
+    /**
+     * Fetches one movie's reviews within the review concurrency limit and assembles the movie, emitting the review
+     * fetch and assembly JFR events of the catalog paths.
+     */
+    private Mono<Movie> movie(MovieInfo movieInfo, Mono<List<Review>> reviews) {
+        var movieId = movieInfo.getMovieInfoId();
+        return reviewLimiter.limit(reviews.transform(MovieStageEvents.reviewFetch(movieId)))
+                .map(reviewsList -> new Movie(movieInfo, reviewsList))
+                .transform(MovieStageEvents.assembly(movieId));
+    }
+
+    private Movie withUnavailableReviews(MovieInfo movieInfo) {
+        var movie = new Movie(movieInfo, List.of());
+        movie.setReviewsUnavailable(true);
+        return movie;
+    }
+
+    /**
+     * When a {@link Deadline} is present in the context the call bypasses single-flight, so that every caller
+     * runs within its own budget. Movie info is required, so it may use the whole remaining budget and fails the
+     * call with a {@link MovieException} when the deadline passes. Reviews only get a share of it and are marked
+     * unavailable instead of failing the call, which leaves headroom to assemble the degraded answer.
+     */
     public Mono<Movie> getMovieById(long movieId) {
-        var movieMono = movieInfoService.retrieveMovieInfoMonoUsingId(movieId);
-        var reviewsMono = reviewService.retrieveReviewsFlux(movieId).collectList();
+        return Mono.deferContextual(ctx -> Deadline.from(ctx)
+                .map(deadline -> getMovieByIdWithin(movieId, deadline)
+                        .transform(MovieStageEvents.assembly(movieId)))
+                .orElseGet(() -> movieByIdFlights.execute(movieId, () ->
+                        Mono.zip(movieInfo(movieId), reviews(movieId), Movie::new)
+                                .transform(MovieStageEvents.assembly(movieId)))))
+                .name("movies.getMovieById")
+                .tap(PipelineMetrics.timed());
+    }
 
-        return Mono.zip(movieMono, reviewsMono, Movie::new);
+    private Mono<Movie> getMovieByIdWithin(long movieId, Deadline deadline) {
+        var movieMono = movieInfo(movieId)
+                .timeout(deadline.remaining())
+                .onErrorMap(TimeoutException.class, ex ->
+                        new MovieException("Movie info for movie " + movieId + " exceeded the deadline"));
+        var reviewsMono = optionalWithin(reviews(movieId), deadline, "Reviews", movieId);
+
+        return Mono.zip(movieMono, reviewsMono, (movieInfo, reviews) -> {
+                    var movie = new Movie(movieInfo, reviews.orElse(List.of()));
+                    movie.setReviewsUnavailable(reviews.isEmpty());
+                    return movie;
+                });
     }
 
     public Mono<Movie> getMovieByIdRestClient(long movieId) {
-        var movieMono = movieInfoService.retrieveAllMovieInfoByIdRestClient(movieId);
-        var reviewsMono = reviewService.retrieveReviewsFluxRestClient(movieId).collectList();
+        return movieByIdRestClientFlights.execute(movieId, () -> {
+                    var movieMono = movieInfoService.retrieveAllMovieInfoByIdRestClient(movieId)
+                            .name("movies.downstream.movieInfoRestClient")
+                            .tap(PipelineMetrics.timed())
+                            .transform(MovieStageEvents.movieInfoFetch(movieId));
+                    var reviewsMono = reviewService.retrieveReviewsFluxRestClient(movieId)
+                            .collectList()
+                            .name("movies.downstream.reviewsRestClient")
+                            .tap(PipelineMetrics.timed())
+                            .transform(MovieStageEvents.reviewFetch(movieId));
 
-        return Mono.zip(movieMono, reviewsMono, Movie::new);
+                    return Mono.zip(movieMono, reviewsMono, Movie::new)
+                            .transform(MovieStageEvents.assembly(movieId));
+                })
+                .name("movies.getMovieByIdRestClient")
+                .tap(PipelineMetrics.timed());
     }
 
-    public Mono<Movie> getMovieByIdWithRevenue(long movieId) {
+    public Flux<Movie> getMoviesByIds(Collection<Long> movieIds) {
+        return getMoviesByIds(movieIds, MOVIE_BATCH_SIZE);
+    }
 
-        var movieMono = movieInfoService.retrieveMovieInfoMonoUsingId(movieId);
-        var reviewsMono = reviewService.retrieveReviewsFlux(movieId).collectList();
+    /**
+     * Groups the ids of this call in batches of up to {@code batchSize}, so each batch costs a single movie info
+     * call and a single reviews call instead of one round trip per movie. Ids of concurrent calls are not
+     * coalesced; every call sends its own batches.
+     */
+    public Flux<Movie> getMoviesByIds(Collection<Long> movieIds, int batchSize) {
+        return Flux.fromIterable(movieIds)
+                .distinct()
+                .buffer(batchSize)
+                .flatMapSequential(this::getMoviesBatch, MOVIE_BATCH_CONCURRENCY)
+                .onErrorMap(ex -> {
+                            log.error("Exception is: ", ex);
+                            throw new MovieException(ex.getMessage());
+                        }
+                )
+                .contextWrite(Priority.BULK.asDefault())
+                .name("movies.getMoviesByIds")
+                .tap(PipelineMetrics.timed())
+                .tap(SignalLogging.logged("movies.getMoviesByIds"));
+    }
+
+    private Flux<Movie> getMoviesBatch(List<Long> movieIds) {
+        var movieInfosMono = movieInfoService.retrieveMovieInfosByIdsRestClient(movieIds)
+                .collectList()
+                .name("movies.downstream.movieInfosByIds")
+                .tap(PipelineMetrics.timed());
+        var reviewsMono = reviewService.retrieveReviewsByMovieInfoIdsRestClient(movieIds)
+                .collectMultimap(Review::getMovieInfoId)
+                .name("movies.downstream.reviewsByIds")
+                .tap(PipelineMetrics.timed());
+
+        return Mono.zip(movieInfosMono, reviewsMono)
+                .flatMapIterable(tuple -> toMovies(tuple.getT1(), tuple.getT2()));
+    }
+
+    private List<Movie> toMovies(List<MovieInfo> movieInfos, Map<Long, Collection<Review>> reviewsByMovieInfoId) {
+        return movieInfos.stream()
+                .map(movieInfo -> new Movie(movieInfo,
+                        new ArrayList<>(reviewsByMovieInfoId.getOrDefault(movieInfo.getMovieInfoId(), List.of()))))
+                .toList();
+    }
+
+    public Mono<Movie> getMovieByIdWithRevenue(long movieId) {
+        return Mono.deferContextual(ctx -> Deadline.from(ctx)
+                .map(deadline -> getMovieByIdWithRevenueWithin(movieId, deadline))
+                .orElseGet(() -> movieInfo(movieId)
+                        .zipWith(reviews(movieId), Movie::new)
+                        .zipWith(revenue(movieId), (movie, revenue) -> {
+                            movie.setRevenue(revenue);
+                            return movie;
+                        })
+                        .transform(MovieStageEvents.assembly(movieId))))
+                .name("movies.getMovieByIdWithRevenue")
+                .tap(PipelineMetrics.timed());
+    }
 
-        var revenueMono = Mono.fromCallable(() -> revenueService.getRevenue(movieId))
-                .subscribeOn(Schedulers.boundedElastic());
+    private Mono<Movie> getMovieByIdWithRevenueWithin(long movieId, Deadline deadline) {
+        var revenueMono = optionalWithin(revenue(movieId), deadline, "Revenue", movieId);
 
-        return movieMono
-                .zipWith(reviewsMono, Movie::new)
+        return getMovieByIdWithin(movieId, deadline)
                 .zipWith(revenueMono, (movie, revenue) -> {
-                    movie.setRevenue(revenue);
+                    movie.setRevenue(revenue.orElse(null));
+                    movie.setRevenueUnavailable(revenue.isEmpty());
                     return movie;
-                });
+                })
+                .transform(MovieStageEvents.assembly(movieId));
+    }
 
+    private Mono<MovieInfo> movieInfo(long movieId) {
+        return movieInfoService.retrieveMovieInfoMonoUsingId(movieId)
+                .name("movies.downstream.movieInfo")
+                .tap(PipelineMetrics.timed())
+                .transform(MovieStageEvents.movieInfoFetch(movieId));
+    }
 
+    private Mono<List<Review>> reviews(long movieId) {
+        return reviewService.retrieveReviewsFlux(movieId)
+                .collectList()
+                .name("movies.downstream.reviews")
+                .tap(PipelineMetrics.timed())
+                .transform(MovieStageEvents.reviewFetch(movieId));
+    }
+
+    private Mono<Revenue> revenue(long movieId) {
+        return revenueService.retrieveRevenueMono(movieId)
+                .name("movies.downstream.revenue")
+                .tap(PipelineMetrics.timed())
+                .transform(MovieStageEvents.revenueFetch(movieId));
+    }
+
+    /**
+     * Gives an optional dependency a share of the remaining deadline and turns a timeout or failure into an
+     * empty result, so the caller can return a degraded movie instead of an error.
+     */
+    private <T> Mono<Optional<T>> optionalWithin(Mono<T> source, Deadline deadline, String dependency, long movieId) {
+        return source
+                .map(Optional::of)
+                .timeout(deadline.remaining(OPTIONAL_DEPENDENCY_DEADLINE_SHARE))
+                .onErrorResume(ex -> {
+                    log.warn("{} unavailable for movie {}: {}", dependency, movieId, ex.toString());
+                    return Mono.just(Optional.<T>empty());
+                });
     }
 
 }
@@ -0,0 +1,144 @@
+package com.learnreactiveprogramming.service;
+
+import com.learnreactiveprogramming.domain.Movie;
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live feed of movie updates. The sink is {@code directBestEffort}, so it never buffers and never waits for a
+ * subscriber; each subscriber gets its own overflow strategy in front of it and always has demand towards the
+ * sink. A slow consumer therefore only overflows its own strategy and never stalls the publisher or the other
+ * subscribers.
+ */
+@Slf4j
+public class MovieUpdateFeed {
+
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+
+    /**
+     * {@code lag} is what was received but neither delivered nor dropped: the buffered updates for
+     * {@code BUFFER}, and for {@code LATEST} also the updates that were overwritten.
+     */
+    public record SubscriberStats(String subscriberId, FluxSink.OverflowStrategy strategy, long received,
+                                  long delivered, long dropped, long lag) {
+    }
+
+    private final String name;
+    private final Sinks.Many<Movie> sink = Sinks.many().multicast().directBestEffort();
+    private final Map<String, SubscriberState> subscribers = new ConcurrentHashMap<>();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder undelivered = new LongAdder();
+
+    public MovieUpdateFeed(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Safe to call from several threads; concurrent emissions spin until the sink is free instead of failing.
+     */
+    public void publish(Movie movie) {
+        published.increment();
+        Sinks.EmitResult result;
+        while ((result = sink.tryEmitNext(movie)) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+            Thread.onSpinWait();
+        }
+        if (result.isFailure()) {
+            undelivered.increment();
+            log.debug("Update for movie {} not delivered on feed {}: {}",
+                    movie.getMovieInfo() == null ? null : movie.getMovieInfo().getMovieInfoId(), name, result);
+        }
+    }
+
+    public Flux<Movie> updates(String subscriberId) {
+        return updates(subscriberId, FluxSink.OverflowStrategy.BUFFER, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Every subscriber reports its lag as one series of the {@code <name>.subscriber.lag} gauge, so the number of
+     * metric names stays fixed however many subscribers come and go; {@link #subscriberStats()} has the lag by
+     * subscriber id.
+     *
+     * @param bufferSize only used by {@code BUFFER}, which drops the oldest update once full
+     */
+    public Flux<Movie> updates(String subscriberId, FluxSink.OverflowStrategy strategy, int bufferSize) {
+        return Flux.defer(() -> {
+            var state = new SubscriberState(subscriberId, strategy);
+            if (subscribers.putIfAbsent(subscriberId, state) != null) {
+                return Flux.error(new IllegalStateException("Subscriber " + subscriberId + " is already subscribed to " + name));
+            }
+            var lagGauge = MetricsRegistry.INSTANCE.gauge(name + ".subscriber.lag", state, SubscriberState::lag);
+
+            var received = sink.asFlux().doOnNext(movie -> state.received.increment());
+            return withOverflowStrategy(received, state, bufferSize)
+                    .doOnNext(movie -> state.delivered.increment())
+                    .doFinally(signal -> {
+                        subscribers.remove(subscriberId, state);
+                        lagGauge.remove();
+                    });
+        });
+    }
+
+    public List<SubscriberStats> subscriberStats() {
+        return subscribers.values().stream()
+                .map(SubscriberState::stats)
+                .toList();
+    }
+
+    public int getSubscriberCount() {
+        return sink.currentSubscriberCount();
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getUndeliveredCount() {
+        return undelivered.sum();
+    }
+
+    private Flux<Movie> withOverflowStrategy(Flux<Movie> source, SubscriberState state, int bufferSize) {
+        return switch (state.strategy) {
+            case DROP -> source.onBackpressureDrop(movie -> state.dropped.increment());
+            case LATEST -> source.onBackpressureLatest();
+            case BUFFER -> source.onBackpressureBuffer(bufferSize, movie -> state.dropped.increment(),
+                    BufferOverflowStrategy.DROP_OLDEST);
+            case ERROR -> source.onBackpressureError();
+            case IGNORE -> Flux.error(new IllegalArgumentException(
+                    "IGNORE would let a slow subscriber overflow downstream, pick DROP, LATEST, BUFFER or ERROR"));
+        };
+    }
+
+    private static final class SubscriberState {
+        private final String subscriberId;
+        private final FluxSink.OverflowStrategy strategy;
+        private final LongAdder received = new LongAdder();
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        private SubscriberState(String subscriberId, FluxSink.OverflowStrategy strategy) {
+            this.subscriberId = subscriberId;
+            this.strategy = strategy;
+        }
+
+        private long lag() {
+            return received.sum() - delivered.sum() - dropped.sum();
+        }
+
+        private SubscriberStats stats() {
+            var receivedCount = received.sum();
+            var deliveredCount = delivered.sum();
+            var droppedCount = dropped.sum();
+            return new SubscriberStats(subscriberId, strategy, receivedCount, deliveredCount, droppedCount,
+                    receivedCount - deliveredCount - droppedCount);
+        }
+    }
+}
@@ -1,11 +1,58 @@
 package com.learnreactiveprogramming.service;
 
 import com.learnreactiveprogramming.domain.Revenue;
+import com.learnreactiveprogramming.exception.ServiceException;
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import com.learnreactiveprogramming.priority.Priority;
+import com.learnreactiveprogramming.priority.PriorityScheduler;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import static com.learnreactiveprogramming.util.CommonUtil.delay;
 
+@Slf4j
 public class RevenueService {
 
+    private static final int REVENUE_THREAD_CAP = 10;
+    private static final int REVENUE_QUEUED_TASK_CAP = 100;
+    private static final double REVENUE_MIN_BULK_SHARE = 0.2;
+
+    private final Function<Priority, Scheduler> revenueSchedulers;
+    private final AtomicInteger activeLookups = new AtomicInteger();
+    private final LongAdder completedLookups = new LongAdder();
+    private final LongAdder rejectedLookups = new LongAdder();
+
+    /**
+     * Shares one lazily created revenue scheduler across every instance, so creating services never leaks
+     * threads. The constructors taking a scheduler leave its lifecycle to the caller.
+     */
+    public RevenueService() {
+        this(DefaultScheduler.INSTANCE);
+    }
+
+    public RevenueService(PriorityScheduler revenueScheduler) {
+        this(revenueScheduler::forPriority);
+    }
+
+    /**
+     * Runs every lookup on the given scheduler regardless of its priority.
+     */
+    public RevenueService(Scheduler revenueScheduler) {
+        this(priority -> revenueScheduler);
+    }
+
+    private RevenueService(Function<Priority, Scheduler> revenueSchedulers) {
+        this.revenueSchedulers = revenueSchedulers;
+        MetricsRegistry.INSTANCE.gauge("revenue.activeLookups", this, RevenueService::getActiveLookups);
+        MetricsRegistry.INSTANCE.gauge("revenue.rejectedLookups", this, RevenueService::getRejectedLookups);
+    }
+
     public Revenue getRevenue(Long movieId){
         delay(1000); // simulating a network call ( DB or Rest call)
         return Revenue.builder()
@@ -15,4 +62,50 @@ public class RevenueService {
                 .build();
 
     }
+
+    /**
+     * Runs the blocking lookup on a dedicated bounded scheduler, so slow revenue calls never compete with other
+     * work on {@code boundedElastic}. Lookups are queued by the {@link Priority} in the context, so interactive
+     * lookups overtake queued bulk ones. Once its threads and queue are full the call fails fast with a
+     * {@link ServiceException}.
+     */
+    public Mono<Revenue> retrieveRevenueMono(Long movieId) {
+        return Mono.deferContextual(ctx -> lookupRevenue(movieId)
+                        .subscribeOn(revenueSchedulers.apply(Priority.from(ctx))))
+                .onErrorMap(RejectedExecutionException.class, ex -> {
+                    rejectedLookups.increment();
+                    log.warn("Revenue lookup for movie {} rejected, revenue scheduler is saturated", movieId);
+                    return new ServiceException("Revenue lookup rejected for movie " + movieId);
+                });
+    }
+
+    private Mono<Revenue> lookupRevenue(Long movieId) {
+        return Mono.fromCallable(() -> {
+                    activeLookups.incrementAndGet();
+                    try {
+                        var revenue = getRevenue(movieId);
+                        completedLookups.increment();
+                        return revenue;
+                    } finally {
+                        activeLookups.decrementAndGet();
+                    }
+                });
+    }
+
+    public int getActiveLookups() {
+        return activeLookups.get();
+    }
+
+    public long getCompletedLookups() {
+        return completedLookups.sum();
+    }
+
+    public long getRejectedLookups() {
+        return rejectedLookups.sum();
+    }
+
+    private static final class DefaultScheduler {
+        private static final PriorityScheduler INSTANCE = new PriorityScheduler("revenue", REVENUE_THREAD_CAP,
+                REVENUE_QUEUED_TASK_CAP, REVENUE_MIN_BULK_SHARE);
+    }
 }
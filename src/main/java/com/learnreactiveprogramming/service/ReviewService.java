@@ -1,21 +1,40 @@
 package com.learnreactiveprogramming.service;
 
+import com.learnreactiveprogramming.client.StreamingDecoding;
 import com.learnreactiveprogramming.domain.Review;
+import com.learnreactiveprogramming.priority.PriorityGate;
+import com.learnreactiveprogramming.resilience.CircuitBreaker;
+import com.learnreactiveprogramming.resilience.RateLimiter;
 import lombok.NoArgsConstructor;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @NoArgsConstructor
 public class ReviewService {
 
     private WebClient webClient;
+    private RateLimiter rateLimiter;
+    private PriorityGate priorityGate;
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("reviews");
 
     public ReviewService(WebClient webClient) {
+        this(webClient, ClientOptions.none());
+    }
+
+    public ReviewService(WebClient webClient, ClientOptions options) {
         this.webClient = webClient;
+        this.rateLimiter = options.getRateLimiter();
+        this.priorityGate = options.getPriorityGate();
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
     }
 
     public Flux<Review> retrieveReviewsFluxRestClient(Long movieInfoId) {
@@ -25,9 +44,35 @@ public class ReviewService {
                 .buildAndExpand()
                 .toUriString();
 
-        return webClient.get().uri(uri)
+        return rateLimited(gated(circuitBreaker.protect(webClient.get().uri(uri)
+                .accept(StreamingDecoding.STREAMING_MEDIA_TYPES)
+                .retrieve()
+                .bodyToFlux(Review.class)
+                .limitRate(StreamingDecoding.DEFAULT_PREFETCH))));
+    }
+
+    public Flux<Review> retrieveReviewsByMovieInfoIdsRestClient(Collection<Long> movieInfoIds) {
+
+        var uri = UriComponentsBuilder.fromUriString("/v1/reviews")
+                .queryParam("movieInfoId", movieInfoIds.stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")))
+                .buildAndExpand()
+                .toUriString();
+
+        return rateLimited(gated(circuitBreaker.protect(webClient.get().uri(uri)
+                .accept(StreamingDecoding.STREAMING_MEDIA_TYPES)
                 .retrieve()
-                .bodyToFlux(Review.class);
+                .bodyToFlux(Review.class)
+                .limitRate(StreamingDecoding.DEFAULT_PREFETCH))));
+    }
+
+    private Flux<Review> rateLimited(Flux<Review> source) {
+        return rateLimiter != null ? rateLimiter.limit(source) : source;
+    }
+
+    private Flux<Review> gated(Flux<Review> source) {
+        return priorityGate != null ? priorityGate.limit(source) : source;
     }
 
     public  List<Review> retrieveReviews(long movieInfoId){
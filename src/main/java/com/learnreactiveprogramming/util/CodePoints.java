@@ -0,0 +1,74 @@
+package com.learnreactiveprogramming.util;
+
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Splits a {@link CharSequence} into one {@code String} per code point without the regex machinery of
+ * {@code split("")}. Latin-1 characters come from a shared table, so splitting ASCII names allocates nothing per
+ * character, and surrogate pairs stay together.
+ */
+public final class CodePoints {
+
+    private static final String[] LATIN_1 = new String[256];
+
+    static {
+        for (var c = 0; c < LATIN_1.length; c++) {
+            LATIN_1[c] = String.valueOf((char) c);
+        }
+    }
+
+    private CodePoints() {
+    }
+
+    /**
+     * Emits the code points lazily; {@code Flux.fromIterable} supports synchronous fusion, so downstream
+     * {@code map}/{@code filter} run without an intermediate queue.
+     */
+    public static Flux<String> flux(CharSequence text) {
+        return Flux.fromIterable(iterable(text));
+    }
+
+    public static Iterable<String> iterable(CharSequence text) {
+        return () -> new CodePointIterator(text);
+    }
+
+    public static List<String> list(CharSequence text) {
+        var codePoints = new ArrayList<String>(text.length());
+        new CodePointIterator(text).forEachRemaining(codePoints::add);
+        return Collections.unmodifiableList(codePoints);
+    }
+
+    public static String of(int codePoint) {
+        return codePoint < LATIN_1.length ? LATIN_1[codePoint] : new String(Character.toChars(codePoint));
+    }
+
+    private static final class CodePointIterator implements Iterator<String> {
+        private final CharSequence text;
+        private int index;
+
+        private CodePointIterator(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < text.length();
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var codePoint = Character.codePointAt(text, index);
+            index += Character.charCount(codePoint);
+            return of(codePoint);
+        }
+    }
+}
@@ -1,14 +1,26 @@
 package com.learnreactiveprogramming;
 
+import com.learnreactiveprogramming.backpressure.BackpressureSpill;
+import com.learnreactiveprogramming.backpressure.SpillConfig;
+import com.learnreactiveprogramming.domain.Review;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.reactivestreams.Subscription;
 import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Slf4j
@@ -187,4 +199,38 @@ class BackpressureTest {
 
         assertTrue(latch.await(5L, TimeUnit.SECONDS));
     }
+
+    @Test
+    void testBackPressureSpill(@TempDir Path spillDirectory) {
+        var reviews = Flux.range(1, 10_000)
+                .map(i -> new Review((long) i, 1L, "Awesome Movie", 8.9));
+        var config = SpillConfig.builder()
+                .directory(spillDirectory)
+                .memoryCapacity(16)
+                .segmentSize(64 * 1024)
+                .build();
+
+        StepVerifier.create(reviews.transform(BackpressureSpill.onBackpressureSpill(Review.class, config)), 0)
+                .recordWith(ArrayList::new)
+                .thenRequest(10)
+                .expectNextCount(10)
+                .then(() -> assertTrue(spilledSegments(spillDirectory) > 1))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(9_990)
+                .consumeRecordedWith(recorded -> {
+                    var reviewIds = recorded.stream().map(Review::getReviewId).toList();
+                    assertEquals(LongStream.rangeClosed(1, 10_000).boxed().toList(), reviewIds);
+                })
+                .verifyComplete();
+
+        assertEquals(0, spilledSegments(spillDirectory));
+    }
+
+    private static long spilledSegments(Path directory) {
+        try (var files = Files.list(directory)) {
+            return files.count();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
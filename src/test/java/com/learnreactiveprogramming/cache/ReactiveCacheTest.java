@@ -0,0 +1,95 @@
+package com.learnreactiveprogramming.cache;
+
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.learnreactiveprogramming.util.CommonUtil.delay;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveCacheTest {
+
+    AtomicInteger loads = new AtomicInteger();
+
+    Mono<String> load(Long key) {
+        return Mono.fromSupplier(() -> "value-" + loads.incrementAndGet());
+    }
+
+    @Test
+    void getCachesLoadedValue() {
+        //given
+        var cache = new ReactiveCache<Long, String>("test", 10, Duration.ofMinutes(1), Duration.ZERO);
+
+        //when
+        var first = cache.get(1L, this::load);
+        var second = cache.get(1L, this::load);
+
+        //then
+        StepVerifier.create(first.concatWith(second))
+                .expectNext("value-1", "value-1")
+                .verifyComplete();
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void getServesStaleValueWhileRevalidating() {
+        //given
+        var cache = new ReactiveCache<Long, String>("test", 10, Duration.ofMillis(50), Duration.ofMinutes(1));
+        cache.get(1L, this::load).block();
+        delay(100);
+
+        //when
+        var stale = cache.get(1L, this::load);
+
+        //then
+        StepVerifier.create(stale)
+                .expectNext("value-1")
+                .verifyComplete();
+        StepVerifier.create(cache.get(1L, this::load))
+                .expectNext("value-2")
+                .verifyComplete();
+        assertEquals(1, cache.getStaleHitCount());
+    }
+
+    @Test
+    void getEvictsLeastRecentlyUsedEntry() {
+        //given
+        var cache = new ReactiveCache<Long, String>("test", 2, Duration.ofMinutes(1), Duration.ZERO);
+
+        //when
+        cache.get(1L, this::load).block();
+        cache.get(2L, this::load).block();
+        cache.get(1L, this::load).block();
+        cache.get(3L, this::load).block();
+
+        //then
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        StepVerifier.create(cache.get(1L, this::load))
+                .expectNext("value-1")
+                .verifyComplete();
+    }
+
+    @Test
+    void countersAreRegisteredAsGauges() {
+        //given
+        var cache = new ReactiveCache<Long, String>("metered", 10, Duration.ofMinutes(1), Duration.ZERO);
+
+        //when
+        var values = cache.get(1L, this::load).then(cache.get(1L, this::load));
+
+        //then
+        StepVerifier.create(values)
+                .expectNext("value-1")
+                .verifyComplete();
+        var gauges = MetricsRegistry.INSTANCE.gaugeValues();
+        assertTrue(gauges.get("cache.metered.hits").containsValue(1.0));
+        assertTrue(gauges.get("cache.metered.misses").containsValue(1.0));
+        assertTrue(gauges.get("cache.metered.size").containsValue(1.0));
+    }
+}
@@ -0,0 +1,78 @@
+package com.learnreactiveprogramming.client;
+
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.learnreactiveprogramming.domain.MovieInfo;
+import com.learnreactiveprogramming.domain.Review;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieCodecsTest {
+
+    MovieCodecs movieCodecs = MovieCodecs.create();
+
+    @Test
+    void movieInfoRoundTrip() throws Exception {
+        //given
+        var movieInfo = new MovieInfo(1L, "Batman Begins", 2005, List.of("Christian Bale", "Michael Cane"), LocalDate.parse("2005-06-15"));
+
+        //when
+        var json = movieCodecs.writerFor(MovieInfo.class).writeValueAsString(movieInfo);
+        MovieInfo decoded = movieCodecs.readerFor(MovieInfo.class).readValue(json);
+
+        //then
+        assertTrue(json.contains("\"releaseDate\":\"2005-06-15\""));
+        assertEquals(movieInfo, decoded);
+    }
+
+    @Test
+    void invalidReleaseDate() {
+        //given
+        var json = "{\"movieInfoId\":1,\"releaseDate\":\"2005-13-45\"}";
+
+        //then
+        assertThrows(InvalidFormatException.class, () -> movieCodecs.readerFor(MovieInfo.class).readValue(json));
+    }
+
+    @Test
+    void decoderReadsSingleValue() {
+        //given
+        var json = "{\"movieInfoId\":1,\"name\":\"Batman Begins\",\"releaseDate\":\"2005-06-15\"}";
+        var buffer = DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+
+        //when
+        var decoded = (MovieInfo) movieCodecs.decoder().decode(buffer, ResolvableType.forClass(MovieInfo.class),
+                MediaType.APPLICATION_JSON, null);
+
+        //then
+        assertEquals("Batman Begins", decoded.getName());
+        assertEquals(LocalDate.parse("2005-06-15"), decoded.getReleaseDate());
+    }
+
+    @Test
+    void decoderStreamsNdjson() {
+        //given
+        var ndjson = "{\"reviewId\":1,\"movieInfoId\":1,\"comment\":\"Awesome Movie\",\"rating\":8.9}\n"
+                + "{\"reviewId\":2,\"movieInfoId\":1,\"comment\":\"Excellent Movie\",\"rating\":9.0}\n";
+        var buffer = DefaultDataBufferFactory.sharedInstance.wrap(ndjson.getBytes(StandardCharsets.UTF_8));
+
+        //when
+        var reviews = movieCodecs.decoder().decode(Flux.just(buffer), ResolvableType.forClass(Review.class),
+                MediaType.APPLICATION_NDJSON, null);
+
+        //then
+        StepVerifier.create(reviews)
+                .expectNext(new Review(1L, 1L, "Awesome Movie", 8.9))
+                .expectNext(new Review(2L, 1L, "Excellent Movie", 9.0))
+                .verifyComplete();
+    }
+}
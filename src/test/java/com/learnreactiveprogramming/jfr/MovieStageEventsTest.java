@@ -0,0 +1,94 @@
+package com.learnreactiveprogramming.jfr;
+
+import com.learnreactiveprogramming.resilience.Deadline;
+import com.learnreactiveprogramming.service.MovieInfoService;
+import com.learnreactiveprogramming.service.MovieReactiveService;
+import com.learnreactiveprogramming.service.RevenueService;
+import com.learnreactiveprogramming.service.ReviewService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Files;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieStageEventsTest {
+
+    @Test
+    void movieInfoFetch() throws Exception {
+        //given
+        var recordingFile = Files.createTempFile("movies", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable(MovieInfoFetchEvent.class);
+            recording.start();
+
+            //when
+            var mono = Mono.just("movie")
+                    .delayElement(Duration.ofMillis(10))
+                    .transform(MovieStageEvents.movieInfoFetch(100L));
+            StepVerifier.create(mono)
+                    .expectNext("movie")
+                    .verifyComplete();
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        //then
+        var events = RecordingFile.readAllEvents(recordingFile);
+        Files.delete(recordingFile);
+        var event = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.learnreactiveprogramming.MovieInfoFetch"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(100L, event.getLong("movieId"));
+        assertEquals("SUCCESS", event.getString("outcome"));
+        assertTrue(event.getDuration().compareTo(Duration.ofMillis(10)) >= 0);
+        assertNotEquals(event.getThread().getJavaName(), event.getThread("subscribeThread").getJavaName());
+    }
+
+    @Test
+    void deadlineBoundCallWithRevenueEmitsOneAssemblyEvent() throws Exception {
+        //given
+        var movieReactiveService = new MovieReactiveService(new MovieInfoService(), new ReviewService(),
+                new RevenueService());
+        var recordingFile = Files.createTempFile("movies", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable(MovieAssemblyEvent.class);
+            recording.start();
+
+            //when
+            var mono = movieReactiveService.getMovieByIdWithRevenue(100L)
+                    .contextWrite(Deadline.within(Duration.ofSeconds(5)));
+            StepVerifier.create(mono)
+                    .expectNextCount(1)
+                    .verifyComplete();
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        //then
+        var events = RecordingFile.readAllEvents(recordingFile);
+        Files.delete(recordingFile);
+        assertEquals(1, events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.learnreactiveprogramming.MovieAssembly"))
+                .count());
+    }
+
+    @Test
+    void disabledEventsLeaveThePipelineUntouched() {
+        //given
+        var source = Mono.just("movie");
+
+        //when
+        var transformed = MovieStageEvents.<String>movieInfoFetch(100L).apply(source);
+
+        //then
+        assertSame(source, transformed);
+    }
+}
@@ -0,0 +1,86 @@
+package com.learnreactiveprogramming.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignalLoggingTest {
+
+    private static final String PIPELINE = "test.signalLogging";
+
+    ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    Logger logger = (Logger) LoggerFactory.getLogger(PipelineLog.LOGGER_PREFIX + PIPELINE);
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.DEBUG);
+        logger.setAdditive(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        SignalLogRegistry.reset(PIPELINE);
+    }
+
+    @Test
+    void logsSignalsAtConfiguredLevels() {
+        //when
+        var flux = Flux.just("A", "B").tap(SignalLogging.<String>logged(PIPELINE));
+
+        //then
+        StepVerifier.create(flux)
+                .expectNext("A", "B")
+                .verifyComplete();
+        var messages = appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertTrue(messages.containsAll(List.of("onSubscribe", "onNext(A)", "onNext(B)", "onComplete")));
+        assertTrue(appender.list.stream()
+                .filter(event -> event.getFormattedMessage().equals("onComplete"))
+                .allMatch(event -> event.getLevel() == Level.INFO));
+    }
+
+    @Test
+    void samplesOnNextButKeepsTerminalSignals() {
+        //given
+        SignalLogRegistry.configure(PIPELINE, config -> config.maxSampledPerSecond(2));
+
+        //when
+        var flux = Flux.range(1, 100).tap(SignalLogging.<Integer>logged(PIPELINE));
+
+        //then
+        StepVerifier.create(flux)
+                .expectNextCount(100)
+                .verifyComplete();
+        assertEquals(2, appender.list.stream()
+                .filter(event -> event.getFormattedMessage().startsWith("onNext")).count());
+        assertTrue(appender.list.stream().anyMatch(event -> event.getFormattedMessage().equals("onComplete")));
+    }
+
+    @Test
+    void reconfiguresRunningPipelines() {
+        //given
+        var flux = Flux.just("A", "B").tap(SignalLogging.<String>logged(PIPELINE));
+
+        //when
+        SignalLogRegistry.configure(PIPELINE, SignalLogConfig.off());
+
+        //then
+        StepVerifier.create(flux)
+                .expectNext("A", "B")
+                .verifyComplete();
+        assertTrue(appender.list.isEmpty());
+    }
+}
@@ -0,0 +1,106 @@
+package com.learnreactiveprogramming.metrics;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineMetricsTest {
+
+    @Test
+    void timed() {
+        //given
+        var flux = Flux.range(1, 5)
+                .delayElements(Duration.ofMillis(20))
+                .name("test.timed")
+                .tap(PipelineMetrics.<Integer>timed());
+
+        //when
+        StepVerifier.create(flux)
+                .expectNextCount(5)
+                .verifyComplete();
+
+        //then
+        var snapshot = MetricsRegistry.INSTANCE.timer("test.timed").snapshot();
+        assertEquals(1, snapshot.subscriptions());
+        assertEquals(5, snapshot.elements());
+        assertEquals(1, snapshot.completions());
+        assertEquals(1, snapshot.firstElement().count());
+        assertTrue(snapshot.firstElement().p50() >= Duration.ofMillis(20).toNanos());
+        assertTrue(snapshot.duration().max() >= Duration.ofMillis(100).toNanos());
+    }
+
+    @Test
+    void timedCountsErrorsAndCancels() {
+        //given
+        var failing = Flux.<Integer>error(new IllegalStateException("boom"))
+                .name("test.timedFailures")
+                .tap(PipelineMetrics.<Integer>timed());
+        var cancelled = Flux.range(1, 10)
+                .name("test.timedFailures")
+                .tap(PipelineMetrics.<Integer>timed())
+                .take(2);
+
+        //when
+        StepVerifier.create(failing).verifyError(IllegalStateException.class);
+        StepVerifier.create(cancelled).expectNext(1, 2).verifyComplete();
+
+        //then
+        var snapshot = MetricsRegistry.INSTANCE.timer("test.timedFailures").snapshot();
+        assertEquals(1, snapshot.errors());
+        assertEquals(1, snapshot.cancels());
+        assertTrue(MetricsRegistry.INSTANCE.scrape()
+                .contains("pipeline_errors_total{pipeline=\"test.timedFailures\"} 1"));
+    }
+
+    @Test
+    void gaugesKeepEveryInstance() {
+        //given
+        var first = new AtomicInteger(1);
+        var second = new AtomicInteger(2);
+        MetricsRegistry.INSTANCE.timer("test.instances");
+
+        //when
+        var firstGauge = MetricsRegistry.INSTANCE.gauge("test.instances.inFlight", first, AtomicInteger::get);
+        var secondGauge = MetricsRegistry.INSTANCE.gauge("test.instances.inFlight", second, AtomicInteger::get);
+
+        //then
+        assertEquals(Map.of(firstGauge.getInstance(), 1.0, secondGauge.getInstance(), 2.0),
+                MetricsRegistry.INSTANCE.gaugeValues().get("test.instances.inFlight"));
+        var scrape = MetricsRegistry.INSTANCE.scrape();
+        assertTrue(scrape.contains("# TYPE test_instances_inFlight gauge\n"));
+        assertTrue(scrape.contains("test_instances_inFlight{owner=\"" + secondGauge.getInstance() + "\"} 2.0\n"));
+        assertTrue(scrape.contains("# TYPE pipeline_errors_total counter\n"));
+        firstGauge.remove();
+        secondGauge.remove();
+        assertFalse(MetricsRegistry.INSTANCE.gaugeValues().containsKey("test.instances.inFlight"));
+    }
+
+    @Test
+    void eachReaderSeesTheRateOverItsOwnInterval() {
+        //given
+        var timer = MetricsRegistry.INSTANCE.timer("test.rates");
+        var scrapeWindow = new PipelineTimer.RateWindow();
+        var dumpWindow = new PipelineTimer.RateWindow();
+        timer.snapshot(scrapeWindow);
+        timer.snapshot(dumpWindow);
+        var flux = Flux.range(1, 10)
+                .name("test.rates")
+                .tap(PipelineMetrics.<Integer>timed());
+
+        //when
+        StepVerifier.create(flux)
+                .expectNextCount(10)
+                .verifyComplete();
+
+        //then
+        assertTrue(timer.snapshot(scrapeWindow).elementsPerSecond() > 0);
+        assertTrue(timer.snapshot(dumpWindow).elementsPerSecond() > 0);
+        assertEquals(0, timer.snapshot(scrapeWindow).elementsPerSecond());
+    }
+}
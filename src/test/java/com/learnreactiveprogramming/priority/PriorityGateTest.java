@@ -0,0 +1,91 @@
+package com.learnreactiveprogramming.priority;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityGateTest {
+
+    @Test
+    void limitAdmitsInteractiveCallsAheadOfQueuedBulkCalls() {
+        //given
+        var gate = new PriorityGate("test", 1, 0.2);
+        var blocker = Sinks.empty();
+        var order = new CopyOnWriteArrayList<String>();
+        gate.limit(blocker.asMono()).subscribe();
+
+        //when
+        call(gate, order, "bulk-1", Priority.BULK);
+        call(gate, order, "bulk-2", Priority.BULK);
+        call(gate, order, "interactive", Priority.INTERACTIVE);
+        assertEquals(2, gate.getWaiting(Priority.BULK));
+        assertEquals(1, gate.getWaiting(Priority.INTERACTIVE));
+        blocker.tryEmitEmpty();
+
+        //then
+        assertEquals(List.of("interactive", "bulk-1", "bulk-2"), order);
+        assertEquals(0, gate.getInFlight());
+    }
+
+    @Test
+    void limitGivesBulkCallsTheirMinimumShare() {
+        //given
+        var gate = new PriorityGate("test", 1, 1.0 / 3);
+        var blocker = Sinks.empty();
+        var order = new CopyOnWriteArrayList<String>();
+        gate.limit(blocker.asMono()).subscribe();
+
+        //when
+        call(gate, order, "bulk-1", Priority.BULK);
+        call(gate, order, "bulk-2", Priority.BULK);
+        call(gate, order, "interactive-1", Priority.INTERACTIVE);
+        call(gate, order, "interactive-2", Priority.INTERACTIVE);
+        call(gate, order, "interactive-3", Priority.INTERACTIVE);
+        blocker.tryEmitEmpty();
+
+        //then
+        assertEquals(List.of("interactive-1", "bulk-1", "interactive-2", "interactive-3", "bulk-2"), order);
+    }
+
+    @Test
+    void limitReturnsPermitsOfCancelledCalls() {
+        //given
+        var gate = new PriorityGate("test", 2, 0.2);
+
+        //when
+        var flux = Flux.range(1, 500)
+                .flatMap(i -> {
+                    var priority = i % 2 == 0 ? Priority.INTERACTIVE : Priority.BULK;
+                    var call = i % 4 < 2
+                            ? gate.limit(Mono.delay(Duration.ofMillis(i % 3)).thenReturn(i))
+                            : gate.limit(Flux.just(i).delayElements(Duration.ofMillis(i % 3))).next();
+                    return call.contextWrite(priority.asContext())
+                            .timeout(Duration.ofMillis(1))
+                            .onErrorResume(ex -> Mono.empty());
+                }, 32);
+
+        //then
+        StepVerifier.create(flux.then())
+                .verifyComplete();
+        assertEquals(0, gate.getInFlight());
+        assertEquals(0, gate.getWaiting(Priority.INTERACTIVE));
+        assertEquals(0, gate.getWaiting(Priority.BULK));
+        StepVerifier.create(gate.limit(Mono.just(1)))
+                .expectNext(1)
+                .verifyComplete();
+    }
+
+    private static void call(PriorityGate gate, List<String> order, String name, Priority priority) {
+        gate.limit(Mono.fromRunnable(() -> order.add(name)))
+                .contextWrite(priority.asContext())
+                .subscribe();
+    }
+}
@@ -0,0 +1,87 @@
+package com.learnreactiveprogramming.priority;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrioritySchedulerTest {
+
+    @Test
+    void interactiveTasksOvertakeQueuedBulkTasks() throws InterruptedException {
+        //given
+        var scheduler = new PriorityScheduler("priority-test", 1, 10, 0.2);
+        var release = blockWorker(scheduler);
+        var order = new CopyOnWriteArrayList<String>();
+        var done = new CountDownLatch(3);
+
+        //when
+        scheduler.forPriority(Priority.BULK).schedule(() -> { order.add("bulk-1"); done.countDown(); });
+        scheduler.forPriority(Priority.BULK).schedule(() -> { order.add("bulk-2"); done.countDown(); });
+        scheduler.forPriority(Priority.INTERACTIVE).schedule(() -> { order.add("interactive"); done.countDown(); });
+        release.countDown();
+
+        //then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("interactive", "bulk-1", "bulk-2"), order);
+        scheduler.dispose();
+    }
+
+    @Test
+    void executeRejectsWhenQueueIsFull() throws InterruptedException {
+        //given
+        var scheduler = new PriorityScheduler("priority-test", 1, 1, 0.2);
+        var release = blockWorker(scheduler);
+        var bulkExecutor = scheduler.executor(Priority.BULK);
+
+        //when
+        bulkExecutor.execute(() -> { });
+
+        //then
+        assertThrows(RejectedExecutionException.class, () -> bulkExecutor.execute(() -> { }));
+        assertEquals(1, scheduler.getQueuedTasks(Priority.BULK));
+        release.countDown();
+        scheduler.dispose();
+    }
+
+    @Test
+    void disposeCancelsQueuedTasks() throws InterruptedException {
+        //given
+        var scheduler = new PriorityScheduler("priority-test", 1, 10, 0.2);
+        var release = blockWorker(scheduler);
+        var ran = new AtomicBoolean();
+        var task = scheduler.forPriority(Priority.BULK).schedule(() -> ran.set(true));
+
+        //when
+        scheduler.dispose();
+
+        //then
+        assertTrue(task.isDisposed());
+        assertEquals(0, scheduler.getQueuedTasks(Priority.BULK));
+        assertThrows(RejectedExecutionException.class,
+                () -> scheduler.forPriority(Priority.BULK).schedule(() -> ran.set(true)));
+        release.countDown();
+        assertFalse(ran.get());
+    }
+
+    private static CountDownLatch blockWorker(PriorityScheduler scheduler) throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        scheduler.executor(Priority.INTERACTIVE).execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+}
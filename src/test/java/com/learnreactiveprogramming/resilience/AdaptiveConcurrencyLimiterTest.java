@@ -0,0 +1,105 @@
+package com.learnreactiveprogramming.resilience;
+
+import com.learnreactiveprogramming.exception.RateLimitExceededException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void limitBoundsInFlightCalls() {
+        //given
+        var limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 2, 0.5, Duration.ofSeconds(1));
+        var maxInFlight = new AtomicInteger();
+
+        //when
+        var flux = Flux.range(1, 10)
+                .flatMap(i -> limiter.limit(Mono.delay(Duration.ofMillis(20))
+                        .doOnSubscribe(s -> maxInFlight.accumulateAndGet(limiter.getInFlight(), Math::max))
+                        .thenReturn(i)));
+
+        //then
+        StepVerifier.create(flux)
+                .expectNextCount(10)
+                .verifyComplete();
+        assertTrue(maxInFlight.get() <= 2);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void limitBacksOffOnErrors() {
+        //given
+        var limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 16, 0.5, Duration.ofSeconds(1));
+
+        //when
+        var mono = limiter.limit(Mono.error(new RuntimeException("Exception occurred")));
+
+        //then
+        StepVerifier.create(mono)
+                .expectErrorMessage("Exception occurred")
+                .verify();
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void limitIgnoresRateLimitRejections() {
+        //given
+        var limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 16, 0.5, Duration.ofSeconds(1));
+        var rateLimiter = new RateLimiter("test.rejecting", 1, 1, Duration.ZERO);
+
+        //when
+        var flux = Flux.range(1, 2)
+                .concatMap(i -> limiter.limit(rateLimiter.limit(Mono.just(i))));
+
+        //then
+        StepVerifier.create(flux)
+                .expectNext(1)
+                .expectError(RateLimitExceededException.class)
+                .verify();
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    void limitExcludesRateLimiterWaitFromLatency() {
+        //given
+        var limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 16, 0.5, Duration.ofMillis(50));
+        var rateLimiter = new RateLimiter("test.waiting", 5, 1, Duration.ofSeconds(1));
+
+        //when
+        var flux = Flux.range(1, 2)
+                .concatMap(i -> limiter.limit(rateLimiter.limit(Mono.just(i))));
+
+        //then
+        StepVerifier.create(flux)
+                .expectNext(1, 2)
+                .verifyComplete();
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    void limitReturnsPermitsOfCancelledCalls() {
+        //given
+        var limiter = new AdaptiveConcurrencyLimiter("test", 2, 2, 2, 0.5, Duration.ofSeconds(1));
+
+        //when
+        var flux = Flux.range(1, 500)
+                .flatMap(i -> limiter.limit(Mono.delay(Duration.ofMillis(i % 3)).thenReturn(i))
+                        .timeout(Duration.ofMillis(1))
+                        .onErrorResume(ex -> Mono.empty()), 32);
+
+        //then
+        StepVerifier.create(flux.then())
+                .verifyComplete();
+        assertEquals(0, limiter.getInFlight());
+        StepVerifier.create(limiter.limit(Mono.just(1)))
+                .expectNext(1)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,105 @@
+package com.learnreactiveprogramming.resilience;
+
+import com.learnreactiveprogramming.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.learnreactiveprogramming.util.CommonUtil.delay;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    CircuitBreaker circuitBreaker = new CircuitBreaker("test", CircuitBreakerConfig.builder()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .permittedCallsInHalfOpenState(1)
+            .waitDurationInOpenState(Duration.ofMillis(100))
+            .build());
+
+    @Test
+    void opensAfterFailureRateThresholdAndFailsFast() {
+        //given
+        var transitions = new ArrayList<CircuitBreaker.StateTransition>();
+        circuitBreaker.onStateTransition(transitions::add);
+
+        //when
+        Flux.range(1, 4)
+                .concatMap(i -> circuitBreaker.protect(Mono.error(new RuntimeException("Exception occurred")))
+                        .onErrorResume(ex -> Mono.empty()))
+                .blockLast();
+
+        //then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(List.of(new CircuitBreaker.StateTransition("test", CircuitBreaker.State.CLOSED, CircuitBreaker.State.OPEN)),
+                transitions);
+        StepVerifier.create(circuitBreaker.protect(Mono.just("movie")))
+                .expectError(ServiceException.class)
+                .verify();
+    }
+
+    @Test
+    void closesAfterSuccessfulCallInHalfOpenState() {
+        //given
+        Flux.range(1, 4)
+                .concatMap(i -> circuitBreaker.protect(Mono.error(new RuntimeException("Exception occurred")))
+                        .onErrorResume(ex -> Mono.empty()))
+                .blockLast();
+        delay(150);
+
+        //when
+        var mono = circuitBreaker.protect(Mono.just("movie"));
+
+        //then
+        StepVerifier.create(mono)
+                .expectNext("movie")
+                .verifyComplete();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void cancellingCallAdmittedWhileClosedAddsNoTrialCalls() {
+        //given
+        var admittedWhileClosed = circuitBreaker.protect(Mono.never()).subscribe();
+        Flux.range(1, 4)
+                .concatMap(i -> circuitBreaker.protect(Mono.error(new RuntimeException("Exception occurred")))
+                        .onErrorResume(ex -> Mono.empty()))
+                .blockLast();
+        delay(150);
+        var trialCall = circuitBreaker.protect(Mono.never()).subscribe();
+
+        //when
+        admittedWhileClosed.dispose();
+
+        //then
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        StepVerifier.create(circuitBreaker.protect(Mono.just("movie")))
+                .expectError(ServiceException.class)
+                .verify();
+        trialCall.dispose();
+    }
+
+    @Test
+    void clientErrorsDoNotOpenTheCircuit() {
+        //given
+        var notFound = WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found",
+                HttpHeaders.EMPTY, new byte[0], null);
+
+        //when
+        Flux.range(1, 4)
+                .concatMap(i -> circuitBreaker.protect(Mono.error(notFound))
+                        .onErrorResume(ex -> Mono.empty()))
+                .blockLast();
+
+        //then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+}
@@ -0,0 +1,49 @@
+package com.learnreactiveprogramming.resilience;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgingPolicyTest {
+
+    @Test
+    void hedgeWinsWhenPrimaryIsSlow() {
+        //given
+        var hedgingPolicy = HedgingPolicy.fixedDelay(Duration.ofMillis(50), 1.0);
+        var calls = new AtomicInteger();
+        var primaryCancelled = new AtomicBoolean();
+
+        //when
+        var mono = hedgingPolicy.hedge(() -> calls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofSeconds(5)).thenReturn("primary").doOnCancel(() -> primaryCancelled.set(true))
+                : Mono.just("hedge"));
+
+        //then
+        StepVerifier.create(mono)
+                .expectNext("hedge")
+                .verifyComplete();
+        assertTrue(primaryCancelled.get());
+        assertEquals(1, hedgingPolicy.getHedgeCount());
+    }
+
+    @Test
+    void hedgeSkippedWhenBudgetIsExhausted() {
+        //given
+        var hedgingPolicy = HedgingPolicy.fixedDelay(Duration.ofMillis(10), 0.1);
+
+        //when
+        var mono = hedgingPolicy.hedge(() -> Mono.delay(Duration.ofMillis(100)).thenReturn("primary"));
+
+        //then
+        StepVerifier.create(mono)
+                .expectNext("primary")
+                .verifyComplete();
+        assertEquals(0, hedgingPolicy.getHedgeCount());
+    }
+}
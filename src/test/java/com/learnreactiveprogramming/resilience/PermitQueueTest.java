@@ -0,0 +1,50 @@
+package com.learnreactiveprogramming.resilience;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermitQueueTest {
+
+    @Test
+    void limitAdmitsFifoWaitersInArrivalOrder() {
+        //given
+        var permits = new PermitQueue<String>(() -> 1, PermitQueue.fifo());
+        var blocker = Sinks.empty();
+        var order = new CopyOnWriteArrayList<String>();
+        permits.limit("blocker", permit -> blocker.asMono()).subscribe();
+
+        //when
+        List.of("first", "second", "third").forEach(key ->
+                permits.limit(key, permit -> Mono.fromRunnable(() -> order.add(permit.key()))).subscribe());
+        assertEquals(1, permits.getInFlight());
+        blocker.tryEmitEmpty();
+
+        //then
+        assertEquals(List.of("first", "second", "third"), order);
+        assertEquals(0, permits.getInFlight());
+    }
+
+    @Test
+    void limitManyHoldsThePermitUntilTheFluxTerminates() {
+        //given
+        var permits = new PermitQueue<String>(() -> 1, PermitQueue.fifo());
+        var source = Sinks.many().unicast().<Integer>onBackpressureBuffer();
+        var received = new CopyOnWriteArrayList<Integer>();
+
+        //when
+        permits.limitMany("flux", permit -> source.asFlux()).subscribe(received::add);
+        source.tryEmitNext(1);
+
+        //then
+        assertEquals(1, permits.getInFlight());
+        source.tryEmitComplete();
+        assertEquals(0, permits.getInFlight());
+        assertEquals(List.of(1), received);
+    }
+}
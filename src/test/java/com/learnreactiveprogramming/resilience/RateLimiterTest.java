@@ -0,0 +1,47 @@
+package com.learnreactiveprogramming.resilience;
+
+import com.learnreactiveprogramming.exception.RateLimitExceededException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void limitSpacesCallsAtTheRate() {
+        //given
+        var rateLimiter = new RateLimiter("test", 20, 1, Duration.ofSeconds(1));
+
+        //when
+        var flux = Flux.range(1, 5)
+                .flatMap(i -> rateLimiter.limit(Mono.just(i)));
+
+        //then
+        var elapsed = StepVerifier.create(flux)
+                .expectNextCount(5)
+                .verifyComplete();
+        assertTrue(elapsed.compareTo(Duration.ofMillis(180)) >= 0, "elapsed " + elapsed);
+        assertEquals(0, rateLimiter.getRejectedCount());
+    }
+
+    @Test
+    void limitRejectsBeyondMaxWait() {
+        //given
+        var rateLimiter = new RateLimiter("test", 1, 1, Duration.ofMillis(100));
+
+        //when
+        var flux = Flux.concat(rateLimiter.limit(Mono.just(1)), rateLimiter.limit(Mono.just(2)));
+
+        //then
+        StepVerifier.create(flux)
+                .expectNext(1)
+                .expectError(RateLimitExceededException.class)
+                .verify();
+        assertEquals(1, rateLimiter.getRejectedCount());
+    }
+}
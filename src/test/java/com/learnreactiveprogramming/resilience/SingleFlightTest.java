@@ -0,0 +1,77 @@
+package com.learnreactiveprogramming.resilience;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallsShareOneUpstream() {
+        //given
+        var subscriptions = new AtomicInteger();
+        var call = Mono.delay(Duration.ofMillis(100))
+                .map(tick -> "movie")
+                .doOnSubscribe(s -> subscriptions.incrementAndGet());
+
+        //when
+        var flux = Flux.merge(singleFlight.execute(1L, () -> call),
+                singleFlight.execute(1L, () -> call),
+                singleFlight.execute(1L, () -> call));
+
+        //then
+        StepVerifier.create(flux)
+                .expectNext("movie", "movie", "movie")
+                .verifyComplete();
+        assertEquals(1, subscriptions.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void upstreamIsCancelledOnlyWhenEveryWaiterHasGone() {
+        //given
+        var cancelled = new AtomicBoolean();
+        var call = Mono.delay(Duration.ofSeconds(10))
+                .map(tick -> "movie")
+                .doOnCancel(() -> cancelled.set(true));
+
+        //when
+        var first = singleFlight.execute(1L, () -> call).subscribe();
+        var second = singleFlight.execute(1L, () -> call).subscribe();
+        first.dispose();
+
+        //then
+        assertFalse(cancelled.get());
+        second.dispose();
+        assertTrue(cancelled.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void callerJoiningAfterTheValueGetsItReplayed() {
+        //given
+        var late = new AtomicReference<String>();
+        var call = Mono.just("movie");
+
+        //when
+        var first = singleFlight.execute(1L, () -> call)
+                .doOnNext(movie -> singleFlight.execute(1L, () -> Mono.just("second call")).subscribe(late::set));
+
+        //then
+        StepVerifier.create(first)
+                .expectNext("movie")
+                .verifyComplete();
+        assertEquals("movie", late.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+}
@@ -0,0 +1,72 @@
+package com.learnreactiveprogramming.scheduler;
+
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static com.learnreactiveprogramming.util.CommonUtil.delay;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulerInstrumentationTest {
+
+    @AfterEach
+    void tearDown() {
+        SchedulerInstrumentation.uninstall();
+    }
+
+    @Test
+    void install() {
+        //given
+        SchedulerInstrumentation.install(Duration.ofMillis(10));
+        var scheduler = Schedulers.newParallel("instrumented", 2);
+
+        //when
+        var mono = Mono.fromCallable(() -> {
+                    delay(50);
+                    return "done";
+                })
+                .subscribeOn(scheduler);
+
+        //then
+        StepVerifier.create(mono)
+                .expectNext("done")
+                .verifyComplete();
+        scheduler.disposeGracefully().block(Duration.ofSeconds(1));
+        var execution = MetricsRegistry.INSTANCE.latencies().get("scheduler.instrumented.execution");
+        assertTrue(execution.count() >= 1);
+        assertTrue(execution.max() >= Duration.ofMillis(50).toNanos());
+        assertTrue(MetricsRegistry.INSTANCE.gaugeValues().containsKey("scheduler.instrumented.queuedTasks"));
+    }
+
+    @Test
+    void queueWaitExcludesIntentionalDelays() {
+        //given
+        SchedulerInstrumentation.install();
+        var scheduler = Schedulers.newParallel("delayed", 1);
+
+        //when
+        var delayed = Mono.delay(Duration.ofMillis(200), scheduler);
+        var periodic = Flux.interval(Duration.ofMillis(50), scheduler).take(5);
+
+        //then
+        StepVerifier.create(delayed.thenMany(periodic))
+                .expectNextCount(5)
+                .verifyComplete();
+        scheduler.disposeGracefully().block(Duration.ofSeconds(1));
+        var queueWait = MetricsRegistry.INSTANCE.latencies().get("scheduler.delayed.queueWait");
+        assertEquals(2, queueWait.count());
+        assertTrue(queueWait.max() < Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    void schedulerName() {
+        assertEquals("parallel", SchedulerInstrumentation.schedulerName(Schedulers.parallel()));
+        assertEquals("boundedElastic", SchedulerInstrumentation.threadSchedulerName("boundedElastic-12"));
+    }
+}
@@ -1,5 +1,8 @@
 package com.learnreactiveprogramming.service;
 
+import com.learnreactiveprogramming.client.PooledWebClient;
+import com.learnreactiveprogramming.client.WebClientFactory;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.test.StepVerifier;
@@ -8,12 +11,16 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class MovieInfoServiceTest {
 
-    WebClient webClient = WebClient.builder()
-            .baseUrl("http://localhost:8080/movies")
-            .build();
+    PooledWebClient pooledWebClient = WebClientFactory.create("http://localhost:8080/movies");
+    WebClient webClient = pooledWebClient.webClient();
 
     MovieInfoService movieInfoService = new MovieInfoService(webClient);
 
+    @AfterEach
+    void tearDown() {
+        pooledWebClient.dispose();
+    }
+
     @Test
     void retrieveAllMovieInfoRestClient() {
         var movies = movieInfoService.retrieveAllMovieInfoRestClient().log();
@@ -1,14 +1,25 @@
 package com.learnreactiveprogramming.service;
 
+import com.learnreactiveprogramming.domain.MovieInfo;
+import com.learnreactiveprogramming.domain.Review;
 import com.learnreactiveprogramming.exception.MovieException;
 import com.learnreactiveprogramming.exception.NetworkException;
+import com.learnreactiveprogramming.resilience.Deadline;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -112,6 +123,25 @@ class MovieReactiveServiceMockTest {
         verify(reviewService, times(1)).retrieveReviewsFlux(isA(Long.class));
     }
 
+    @Test
+    void getAllMoviesRetryPerMovie() {
+        // given
+        var errorMessage = "Exception occured in ReviewService";
+        when(movieInfoService.retrieveMoviesFlux()).thenCallRealMethod();
+        when(reviewService.retrieveReviewsFlux(anyLong())).thenThrow(new RuntimeException(errorMessage));
+
+        // when
+        var moviesFlux = reactiveService.getAllMoviesRetryPerMovie();
+
+        // then
+        StepVerifier.create(moviesFlux)
+                .thenConsumeWhile(movie -> movie.isReviewsUnavailable() && movie.getReviewList().isEmpty())
+                .verifyComplete();
+
+        verify(movieInfoService, times(1)).retrieveMoviesFlux();
+        verify(reviewService, times(12)).retrieveReviewsFlux(isA(Long.class));
+    }
+
     @Test
     void getAllMoviesRepeat() {
         // given
@@ -149,4 +179,92 @@ class MovieReactiveServiceMockTest {
 
         verify(reviewService, times(9)).retrieveReviewsFlux(isA(Long.class));
     }
+
+    @Test
+    void getMoviesByIds() {
+        // given
+        var movieInfos = List.of(new MovieInfo(1L, "Batman Begins", 2005, List.of("Christian Bale"), LocalDate.parse("2005-06-15")),
+                new MovieInfo(2L, "The Dark Knight", 2008, List.of("Christian Bale"), LocalDate.parse("2008-07-18")));
+        var reviews = List.of(new Review(1L, 1L, "Awesome Movie", 8.9),
+                new Review(2L, 1L, "Excellent Movie", 9.0),
+                new Review(3L, 2L, "Amazing Movie", 8.0));
+        when(movieInfoService.retrieveMovieInfosByIdsRestClient(anyCollection())).thenReturn(Flux.fromIterable(movieInfos));
+        when(reviewService.retrieveReviewsByMovieInfoIdsRestClient(anyCollection())).thenReturn(Flux.fromIterable(reviews));
+
+        // when
+        var moviesFlux = reactiveService.getMoviesByIds(List.of(1L, 2L));
+
+        // then
+        StepVerifier.create(moviesFlux)
+                .assertNext(movie -> assertEquals(2, movie.getReviewList().size()))
+                .assertNext(movie -> assertEquals(1, movie.getReviewList().size()))
+                .verifyComplete();
+
+        verify(movieInfoService, times(1)).retrieveMovieInfosByIdsRestClient(anyCollection());
+        verify(reviewService, times(1)).retrieveReviewsByMovieInfoIdsRestClient(anyCollection());
+    }
+
+    @Test
+    void getAllMoviesShared() {
+        // given
+        var movieInfos = List.of(new MovieInfo(100L, "Batman Begins", 2005, List.of("Christian Bale"), LocalDate.parse("2005-06-15")),
+                new MovieInfo(101L, "The Dark Knight", 2008, List.of("Christian Bale"), LocalDate.parse("2008-07-18")));
+        when(movieInfoService.retrieveAllMovieInfoRestClient())
+                .thenReturn(Flux.fromIterable(movieInfos).delayElements(Duration.ofMillis(50)));
+        when(reviewService.retrieveReviewsFluxRestClient(anyLong()))
+                .thenAnswer(invocation -> Flux.just(new Review(1L, invocation.getArgument(0), "Awesome Movie", 8.9)));
+        reactiveService.configureSharedCatalog(100, Duration.ofMillis(100));
+
+        // when
+        var moviesFlux = reactiveService.getAllMoviesShared();
+
+        // then
+        StepVerifier.create(Flux.merge(moviesFlux, moviesFlux.delaySubscription(Duration.ofMillis(75))))
+                .expectNextCount(4)
+                .verifyComplete();
+        verify(movieInfoService, times(1)).retrieveAllMovieInfoRestClient();
+        verify(reviewService, times(2)).retrieveReviewsFluxRestClient(anyLong());
+    }
+
+    @Test
+    void getAllMoviesSharedStartsNewRunAfterCompletion() {
+        // given
+        var movieInfos = List.of(new MovieInfo(100L, "Batman Begins", 2005, List.of("Christian Bale"), LocalDate.parse("2005-06-15")),
+                new MovieInfo(101L, "The Dark Knight", 2008, List.of("Christian Bale"), LocalDate.parse("2008-07-18")));
+        when(movieInfoService.retrieveAllMovieInfoRestClient())
+                .thenReturn(Flux.fromIterable(movieInfos));
+        when(reviewService.retrieveReviewsFluxRestClient(anyLong()))
+                .thenAnswer(invocation -> Flux.just(new Review(1L, invocation.getArgument(0), "Awesome Movie", 8.9)));
+        reactiveService.configureSharedCatalog(100, Duration.ofMillis(100));
+        var moviesFlux = reactiveService.getAllMoviesShared();
+        StepVerifier.create(moviesFlux)
+                .expectNextCount(2)
+                .verifyComplete();
+
+        // when
+        var lateSubscriber = moviesFlux;
+
+        // then
+        StepVerifier.create(lateSubscriber)
+                .expectNextCount(2)
+                .verifyComplete();
+        verify(movieInfoService, times(2)).retrieveAllMovieInfoRestClient();
+        verify(reviewService, times(4)).retrieveReviewsFluxRestClient(anyLong());
+    }
+
+    @Test
+    void getMovieByIdFailsWithMovieExceptionWhenMovieInfoMissesTheDeadline() {
+        // given
+        when(movieInfoService.retrieveMovieInfoMonoUsingId(anyLong())).thenReturn(Mono.never());
+        when(reviewService.retrieveReviewsFlux(anyLong())).thenCallRealMethod();
+
+        // when
+        var movieMono = reactiveService.getMovieById(100L)
+                .contextWrite(Deadline.within(Duration.ofMillis(100)));
+
+        // then
+        StepVerifier.create(movieMono)
+                .expectError(MovieException.class)
+                .verify();
+    }
 }
@@ -1,16 +1,21 @@
 package com.learnreactiveprogramming.service;
 
+import com.learnreactiveprogramming.client.PooledWebClient;
+import com.learnreactiveprogramming.client.WebClientFactory;
+import com.learnreactiveprogramming.resilience.Deadline;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class MovieReactiveServiceTest {
 
-    WebClient webClient = WebClient.builder()
-            .baseUrl("http://localhost:8080/movies")
-            .build();
+    PooledWebClient pooledWebClient = WebClientFactory.create("http://localhost:8080/movies");
+    WebClient webClient = pooledWebClient.webClient();
 
     private MovieInfoService movieInfoService = new MovieInfoService(webClient);
     private ReviewService reviewService = new ReviewService(webClient);
@@ -18,6 +23,11 @@ class MovieReactiveServiceTest {
 
     MovieReactiveService movieReactiveService = new MovieReactiveService(movieInfoService, reviewService, revenueService);
 
+    @AfterEach
+    void tearDown() {
+        pooledWebClient.dispose();
+    }
+
     @Test
     void getAllMovies() {
         // given
@@ -79,6 +89,28 @@ class MovieReactiveServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void getMovieByIdWithRevenueWithinDeadline() {
+
+        // given
+        final var movieId = 100L;
+
+        // when
+        var moviesFlux = movieReactiveService.getMovieByIdWithRevenue(movieId)
+                .contextWrite(Deadline.within(Duration.ofMillis(300)))
+                .log();
+
+        // then
+        StepVerifier.create(moviesFlux)
+                .assertNext(movie -> {
+                    assertEquals("Batman Begins", movie.getMovieInfo().getName());
+                    assertEquals(2, movie.getReviewList().size());
+                    assertNull(movie.getRevenue());
+                    assertTrue(movie.isRevenueUnavailable());
+                })
+                .verifyComplete();
+    }
+
     @Test
     void getAllMoviesRestClient() {
         // given
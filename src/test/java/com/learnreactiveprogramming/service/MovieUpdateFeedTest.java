@@ -0,0 +1,89 @@
+package com.learnreactiveprogramming.service;
+
+import com.learnreactiveprogramming.domain.Movie;
+import com.learnreactiveprogramming.domain.MovieInfo;
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.FluxSink;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieUpdateFeedTest {
+
+    MovieUpdateFeed feed = new MovieUpdateFeed("test.updates");
+
+    @Test
+    void slowSubscriberDoesNotStallOthers() {
+        //given
+        var slow = new BaseSubscriber<Movie>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+        };
+        feed.updates("slow", FluxSink.OverflowStrategy.DROP, 0).subscribe(slow);
+        var fast = feed.updates("fast", FluxSink.OverflowStrategy.BUFFER, 16).take(1000);
+
+        //when
+        //then
+        StepVerifier.create(fast)
+                .then(() -> LongStream.rangeClosed(1, 1000).mapToObj(MovieUpdateFeedTest::movie).forEach(feed::publish))
+                .expectNextCount(1000)
+                .verifyComplete();
+        var slowStats = feed.subscriberStats().get(0);
+        assertEquals("slow", slowStats.subscriberId());
+        assertEquals(1000, slowStats.received());
+        assertEquals(1, slowStats.delivered());
+        assertEquals(999, slowStats.dropped());
+        assertEquals(0, slowStats.lag());
+        slow.dispose();
+    }
+
+    @Test
+    void bufferKeepsNewestUpdates() {
+        //given
+        var updates = feed.updates("buffered", FluxSink.OverflowStrategy.BUFFER, 2);
+
+        //when
+        //then
+        StepVerifier.create(updates, 0)
+                .then(() -> LongStream.rangeClosed(1, 5).mapToObj(MovieUpdateFeedTest::movie).forEach(feed::publish))
+                .then(() -> assertEquals(2, feed.subscriberStats().get(0).lag()))
+                .then(() -> assertEquals(List.of(2.0), List.copyOf(
+                        MetricsRegistry.INSTANCE.gaugeValues().get("test.updates.subscriber.lag").values())))
+                .thenRequest(2)
+                .assertNext(movie -> assertEquals(4L, movie.getMovieInfo().getMovieInfoId()))
+                .assertNext(movie -> assertEquals(5L, movie.getMovieInfo().getMovieInfoId()))
+                .thenCancel()
+                .verify();
+        assertEquals(0, feed.getSubscriberCount());
+        assertFalse(MetricsRegistry.INSTANCE.gaugeValues().containsKey("test.updates.subscriber.lag"));
+    }
+
+    @Test
+    void duplicateSubscriberId() {
+        //given
+        var first = feed.updates("dashboard").subscribe();
+
+        //when
+        var second = feed.updates("dashboard");
+
+        //then
+        StepVerifier.create(second)
+                .expectError(IllegalStateException.class)
+                .verify();
+        first.dispose();
+    }
+
+    private static Movie movie(long id) {
+        return new Movie(new MovieInfo(id, "Movie " + id, 2005, List.of("Christian Bale"), LocalDate.parse("2005-06-15")),
+                List.of());
+    }
+}
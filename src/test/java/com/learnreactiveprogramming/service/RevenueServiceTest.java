@@ -0,0 +1,72 @@
+package com.learnreactiveprogramming.service;
+
+import com.learnreactiveprogramming.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevenueServiceTest {
+
+    @Test
+    void retrieveRevenueMono() {
+        //given
+        var revenueService = new RevenueService();
+
+        //when
+        var revenueMono = revenueService.retrieveRevenueMono(100L);
+
+        //then
+        StepVerifier.create(revenueMono)
+                .assertNext(revenue -> assertEquals(100L, revenue.getMovieInfoId()))
+                .verifyComplete();
+        assertEquals(1, revenueService.getCompletedLookups());
+    }
+
+    @Test
+    void retrieveRevenueMonoRejectedWhenSaturated() {
+        //given
+        var scheduler = Schedulers.newBoundedElastic(1, 1, "revenue-test");
+        var revenueService = new RevenueService(scheduler);
+
+        //when
+        var revenueFlux = Flux.range(1, 3)
+                .flatMap(i -> revenueService.retrieveRevenueMono((long) i)
+                        .onErrorResume(ServiceException.class, ex -> Mono.empty()));
+
+        //then
+        StepVerifier.create(revenueFlux)
+                .expectNextCount(2)
+                .verifyComplete();
+        assertEquals(1, revenueService.getRejectedLookups());
+        assertEquals(2, revenueService.getCompletedLookups());
+        scheduler.dispose();
+    }
+
+    @Test
+    void retrieveRevenueMonoRejectedWhenDefaultSchedulerIsSaturated() {
+        //given
+        var revenueService = new RevenueService();
+
+        //when
+        var revenueFlux = Flux.range(1, 111)
+                .flatMap(i -> revenueService.retrieveRevenueMono((long) i), 111);
+
+        //then
+        StepVerifier.create(revenueFlux)
+                .expectError(ServiceException.class)
+                .verify();
+        assertTrue(revenueService.getRejectedLookups() >= 1);
+        StepVerifier.create(revenueService.retrieveRevenueMono(100L)
+                        .retryWhen(Retry.fixedDelay(50, Duration.ofMillis(100))
+                                .filter(ServiceException.class::isInstance)))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,29 @@
+package com.learnreactiveprogramming.stub;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    Duration sample();
+
+    static LatencyDistribution none() {
+        return () -> Duration.ZERO;
+    }
+
+    static LatencyDistribution fixed(Duration latency) {
+        return () -> latency;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        return () -> Duration.ofNanos(ThreadLocalRandom.current().nextLong(min.toNanos(), max.toNanos() + 1));
+    }
+
+    /**
+     * Log-normal latency around {@code median}; a sigma of 0.5 to 1.0 gives the long tail typical of real services.
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        return () -> Duration.ofNanos((long) (median.toNanos() * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian())));
+    }
+}
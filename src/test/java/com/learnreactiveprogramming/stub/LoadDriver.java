@@ -0,0 +1,125 @@
+package com.learnreactiveprogramming.stub;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.learnreactiveprogramming.client.WebClientFactory;
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import com.learnreactiveprogramming.priority.PriorityGate;
+import com.learnreactiveprogramming.resilience.RateLimiter;
+import com.learnreactiveprogramming.scheduler.SchedulerInstrumentation;
+import com.learnreactiveprogramming.service.ClientOptions;
+import com.learnreactiveprogramming.service.MovieInfoService;
+import com.learnreactiveprogramming.service.MovieReactiveService;
+import com.learnreactiveprogramming.service.RevenueService;
+import com.learnreactiveprogramming.service.ReviewService;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.stream.LongStream;
+
+/**
+ * Drives {@link MovieReactiveService} against {@link StubMovieServer} and reports throughput and p50/p99/p999
+ * latency per method, along with the rate the stub backend actually served. Arguments: requests, concurrency,
+ * catalog size, median latency in ms, error rate, and a review rate limit in requests per second (0 for none), e.g.
+ * {@code ./gradlew loadTest -PloadArgs="20000 256 5000 5 0.001 2000"}.
+ */
+@Slf4j
+public class LoadDriver {
+
+    public static void main(String[] args) {
+        var requests = intArg(args, 0, 10_000);
+        var concurrency = intArg(args, 1, 128);
+        var catalogSize = intArg(args, 2, 1_000);
+        var medianLatencyMillis = intArg(args, 3, 5);
+        var errorRate = args.length > 4 ? Double.parseDouble(args[4]) : 0.0;
+        var reviewsPerSecond = intArg(args, 5, 0);
+
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        SchedulerInstrumentation.install();
+
+        var config = StubMovieServer.Config.builder()
+                .catalogSize(catalogSize)
+                .latency(LatencyDistribution.logNormal(Duration.ofMillis(medianLatencyMillis), 0.5))
+                .errorRate(errorRate)
+                .build();
+
+        try (var server = StubMovieServer.start(config);
+             var pooledWebClient = WebClientFactory.create(server.baseUrl())) {
+            var webClient = pooledWebClient.webClient();
+            var connectionProvider = pooledWebClient.connectionProvider();
+            var priorityGate = new PriorityGate(connectionProvider.name(), connectionProvider.maxConnections(), 0.2);
+            var reviewRateLimiter = reviewsPerSecond > 0
+                    ? new RateLimiter("loadtest.reviews", reviewsPerSecond, concurrency, Duration.ofSeconds(1))
+                    : null;
+            var movieInfoOptions = ClientOptions.builder()
+                    .priorityGate(priorityGate)
+                    .build();
+            var reviewOptions = ClientOptions.builder()
+                    .rateLimiter(reviewRateLimiter)
+                    .priorityGate(priorityGate)
+                    .build();
+            var movieReactiveService = new MovieReactiveService(new MovieInfoService(webClient, movieInfoOptions),
+                    new ReviewService(webClient, reviewOptions), new RevenueService());
+
+            run("getMovieByIdRestClient", server, requests, concurrency, i ->
+                    movieReactiveService.getMovieByIdRestClient(randomId(catalogSize)));
+            run("getMoviesByIds", server, Math.max(1, requests / 100), concurrency, i ->
+                    movieReactiveService.getMoviesByIds(LongStream.range(0, 100).map(n -> randomId(catalogSize)).boxed().toList())
+                            .then());
+            run("getAllMoviesRestClient", server, Math.max(1, requests / catalogSize), concurrency, i ->
+                    movieReactiveService.getAllMoviesRestClient().then());
+        }
+        log.warn("Metrics:\n{}", MetricsRegistry.INSTANCE.scrape());
+    }
+
+    private static void run(String name, StubMovieServer server, int requests, int concurrency,
+                            IntFunction<Mono<?>> call) {
+        var latencies = new long[requests];
+        var backendRequests = server.getRequestCount();
+        var start = System.nanoTime();
+        var failures = Flux.range(0, requests)
+                .flatMap(i -> Mono.defer(() -> {
+                    var callStart = System.nanoTime();
+                    return call.apply(i)
+                            .then(Mono.just(false))
+                            .onErrorReturn(true)
+                            .doOnNext(failed -> latencies[i] = System.nanoTime() - callStart);
+                }), concurrency)
+                .filter(failed -> failed)
+                .count()
+                .block();
+        var elapsedNanos = System.nanoTime() - start;
+        backendRequests = server.getRequestCount() - backendRequests;
+
+        Arrays.sort(latencies);
+        log.warn("{}: {} requests ({} failed) in {} ms, {} req/s (backend {} req/s), p50={} ms p99={} ms p999={} ms",
+                name, requests, failures, elapsedNanos / 1_000_000,
+                String.format("%.1f", requests * 1e9 / elapsedNanos),
+                String.format("%.1f", backendRequests * 1e9 / elapsedNanos),
+                millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.99)),
+                millis(percentile(latencies, 0.999)));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        var index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1e6);
+    }
+
+    private static long randomId(int catalogSize) {
+        return ThreadLocalRandom.current().nextLong(1, catalogSize + 1L);
+    }
+
+    private static int intArg(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
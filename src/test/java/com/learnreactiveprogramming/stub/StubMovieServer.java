@@ -0,0 +1,174 @@
+package com.learnreactiveprogramming.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learnreactiveprogramming.client.MovieCodecs;
+import com.learnreactiveprogramming.domain.MovieInfo;
+import com.learnreactiveprogramming.domain.Review;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Embedded reactor-netty stand-in for the movies backend, serving {@code /movies/v1/movie_infos},
+ * {@code /movies/v1/movie_infos/{id}} and {@code /movies/v1/reviews} (single or comma-separated ids) as JSON or
+ * NDJSON, with configurable catalog size, latency and error rate. It counts the requests it serves, so callers can
+ * check the rate they arrived at.
+ */
+@Slf4j
+public class StubMovieServer implements AutoCloseable {
+
+    private static final List<String> KNOWN_NAMES = List.of("Batman Begins", "The Dark Knight", "Dark Knight Rises");
+
+    @Getter
+    @Builder
+    public static class Config {
+        @Builder.Default
+        private int port = 0;
+        @Builder.Default
+        private int catalogSize = 7;
+        @Builder.Default
+        private int reviewsPerMovie = 1;
+        @Builder.Default
+        private LatencyDistribution latency = LatencyDistribution.none();
+        @Builder.Default
+        private double errorRate = 0;
+    }
+
+    private final Config config;
+    private final ObjectMapper objectMapper = MovieCodecs.create().objectMapper();
+    private final Map<Long, MovieInfo> movieInfos;
+    private final Map<Long, List<Review>> reviews;
+    private final DisposableServer server;
+    private final LongAdder requests = new LongAdder();
+
+    private StubMovieServer(Config config) {
+        this.config = config;
+        this.movieInfos = LongStream.rangeClosed(1, config.getCatalogSize())
+                .mapToObj(StubMovieServer::movieInfo)
+                .collect(Collectors.toMap(MovieInfo::getMovieInfoId, Function.identity()));
+        this.reviews = LongStream.rangeClosed(1, config.getCatalogSize())
+                .boxed()
+                .collect(Collectors.toMap(Function.identity(), id -> reviews(id, config.getReviewsPerMovie())));
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(config.getPort())
+                .route(routes -> routes
+                        .get("/movies/v1/movie_infos", (request, response) ->
+                                respond(request, response, movieInfos(idsParam(request))))
+                        .get("/movies/v1/movie_infos/{id}", (request, response) ->
+                                respond(request, response, movieInfos.get(Long.valueOf(request.param("id")))))
+                        .get("/movies/v1/reviews", (request, response) ->
+                                respond(request, response, reviews(idsParam(request)))))
+                .bindNow();
+        log.info("Stub movie server listening on {}", baseUrl());
+    }
+
+    public static StubMovieServer start() {
+        return start(Config.builder().build());
+    }
+
+    public static StubMovieServer start(Config config) {
+        return new StubMovieServer(config);
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.port() + "/movies";
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    private Publisher<Void> respond(HttpServerRequest request, HttpServerResponse response, Object body) {
+        requests.increment();
+        return Mono.delay(config.getLatency().sample())
+                .then(Mono.defer(() -> {
+                    if (ThreadLocalRandom.current().nextDouble() < config.getErrorRate()) {
+                        return response.status(500).send();
+                    }
+                    if (body == null) {
+                        return response.status(404).send();
+                    }
+                    var ndjson = body instanceof List<?> && acceptsNdjson(request);
+                    return response
+                            .header(HttpHeaderNames.CONTENT_TYPE, ndjson ? "application/x-ndjson" : "application/json")
+                            .sendString(Mono.fromCallable(() -> ndjson ? toNdjson((List<?>) body) : toJson(body)))
+                            .then();
+                }));
+    }
+
+    private List<MovieInfo> movieInfos(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return LongStream.rangeClosed(1, config.getCatalogSize()).mapToObj(movieInfos::get).toList();
+        }
+        return ids.stream().map(movieInfos::get).filter(movieInfo -> movieInfo != null).toList();
+    }
+
+    private List<Review> reviews(List<Long> ids) {
+        return ids.stream()
+                .flatMap(id -> reviews.getOrDefault(id, List.of()).stream())
+                .toList();
+    }
+
+    private boolean acceptsNdjson(HttpServerRequest request) {
+        var accept = request.requestHeaders().get(HttpHeaderNames.ACCEPT);
+        return accept != null && accept.contains("application/x-ndjson");
+    }
+
+    private String toJson(Object body) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private String toNdjson(List<?> body) throws JsonProcessingException {
+        var ndjson = new StringBuilder();
+        for (var element : body) {
+            ndjson.append(objectMapper.writeValueAsString(element)).append('\n');
+        }
+        return ndjson.toString();
+    }
+
+    private static List<Long> idsParam(HttpServerRequest request) {
+        return new QueryStringDecoder(request.uri()).parameters()
+                .getOrDefault("movieInfoId", List.of())
+                .stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .filter(value -> !value.isBlank())
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private static MovieInfo movieInfo(long id) {
+        var name = id <= KNOWN_NAMES.size() ? KNOWN_NAMES.get((int) id - 1) : "Movie " + id;
+        return new MovieInfo(id, name, 2005, List.of("Christian Bale", "Michael Cane"), LocalDate.parse("2005-06-15"));
+    }
+
+    private static List<Review> reviews(long movieInfoId, int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(i -> new Review(movieInfoId * 1000 + i, movieInfoId, "Awesome Movie", 8.9))
+                .toList();
+    }
+}
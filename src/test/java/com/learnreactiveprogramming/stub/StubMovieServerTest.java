@@ -0,0 +1,95 @@
+package com.learnreactiveprogramming.stub;
+
+import com.learnreactiveprogramming.client.PooledWebClient;
+import com.learnreactiveprogramming.client.WebClientFactory;
+import com.learnreactiveprogramming.metrics.MetricsRegistry;
+import com.learnreactiveprogramming.resilience.RateLimiter;
+import com.learnreactiveprogramming.service.ClientOptions;
+import com.learnreactiveprogramming.service.MovieInfoService;
+import com.learnreactiveprogramming.service.MovieReactiveService;
+import com.learnreactiveprogramming.service.RevenueService;
+import com.learnreactiveprogramming.service.ReviewService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StubMovieServerTest {
+
+    StubMovieServer server = StubMovieServer.start();
+    PooledWebClient pooledWebClient = WebClientFactory.create(server.baseUrl());
+
+    MovieReactiveService movieReactiveService = new MovieReactiveService(
+            new MovieInfoService(pooledWebClient.webClient()),
+            new ReviewService(pooledWebClient.webClient()),
+            new RevenueService());
+
+    @AfterEach
+    void tearDown() {
+        pooledWebClient.dispose();
+        server.close();
+    }
+
+    @Test
+    void getAllMoviesRestClient() {
+        //when
+        var moviesFlux = movieReactiveService.getAllMoviesRestClient();
+
+        //then
+        StepVerifier.create(moviesFlux)
+                .expectNextCount(7)
+                .verifyComplete();
+    }
+
+    @Test
+    void getMovieByIdRestClient() {
+        //when
+        var movieMono = movieReactiveService.getMovieByIdRestClient(1L);
+
+        //then
+        StepVerifier.create(movieMono)
+                .assertNext(movie -> {
+                    assertEquals("Batman Begins", movie.getMovieInfo().getName());
+                    assertEquals(1, movie.getReviewList().size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getMoviesByIds() {
+        //when
+        var moviesFlux = movieReactiveService.getMoviesByIds(List.of(1L, 2L, 3L));
+
+        //then
+        StepVerifier.create(moviesFlux)
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    @Test
+    void getAllMoviesRestClientRateLimited() {
+        //given
+        var rateLimiter = new RateLimiter("stub.reviews", 20, 1, Duration.ofSeconds(5));
+        var rateLimitedService = new MovieReactiveService(
+                new MovieInfoService(pooledWebClient.webClient()),
+                new ReviewService(pooledWebClient.webClient(), ClientOptions.builder().rateLimiter(rateLimiter).build()),
+                new RevenueService());
+
+        //when
+        var moviesFlux = rateLimitedService.getAllMoviesRestClient();
+
+        //then
+        var elapsed = StepVerifier.create(moviesFlux)
+                .expectNextCount(7)
+                .verifyComplete();
+        var waits = MetricsRegistry.INSTANCE.latencies().get("ratelimiter.stub.reviews.wait");
+        assertEquals(7, server.getRequestCount() - 1);
+        assertEquals(7, waits.count());
+        assertEquals(0, rateLimiter.getRejectedCount());
+        assertTrue(elapsed.compareTo(Duration.ofMillis(300)) >= 0, "took " + elapsed);
+    }
+}
@@ -0,0 +1,44 @@
+package com.learnreactiveprogramming.util;
+
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodePointsTest {
+
+    @Test
+    void flux() {
+        //when
+        var flux = CodePoints.flux("ALEX");
+
+        //then
+        StepVerifier.create(flux)
+                .expectNext("A", "L", "E", "X")
+                .verifyComplete();
+    }
+
+    @Test
+    void fluxKeepsSurrogatePairsTogether() {
+        //when
+        var flux = CodePoints.flux("a🎬b");
+
+        //then
+        StepVerifier.create(flux)
+                .expectNext("a", "🎬", "b")
+                .verifyComplete();
+    }
+
+    @Test
+    void listReusesCachedStrings() {
+        //when
+        var first = CodePoints.list("ben");
+        var second = CodePoints.list("BEN".toLowerCase());
+
+        //then
+        assertEquals(List.of("b", "e", "n"), first);
+        assertSame(first.get(0), second.get(0));
+    }
+}